@@ -0,0 +1,144 @@
+package com.prj.cursor.bench;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.prj.cursor.CursorApplication;
+import com.prj.cursor.dto.RankingEntry;
+import com.prj.cursor.dto.ScoreEvent;
+import com.prj.cursor.entity.GameBestScore;
+import com.prj.cursor.repository.GameBestScoreRepository;
+import com.prj.cursor.service.GameService;
+import com.prj.cursor.service.LocalRankingEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 랭킹 경로 벤치마크 (애플리케이션 컨텍스트 전체, h2 프로필)
+ *
+ * Redis는 인프로세스 Redis 호환 서버(jedis-mock), DB는 H2(MariaDB 모드)를 사용하므로
+ * 외부 서버 없이 같은 조건으로 반복 측정할 수 있습니다. 실제 서버 대비 절대값보다는 변경 전후 비교용입니다.
+ *
+ * - submitScore: direct 모드 점수 제출 (write-behind 적재 + Redis 최고 점수 스크립트)
+ * - topRankingsCached: 상위 10위 (RankingCache 적중)
+ * - rankingsRedis: 캐시 범위 밖 구간 (Redis ZREVRANGE + 닉네임 조회)
+ * - rankingsDatabaseFallback / rankingsLocalFallback: Redis 장애 시 대체 조회 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GameRankingBenchmark {
+
+    private static final String GAME_TYPE = "bench";
+
+    @Param("10000")
+    private int users;
+
+    private RedisServer redisServer;
+
+    private ConfigurableApplicationContext context;
+
+    private GameService gameService;
+
+    private GameBestScoreRepository gameBestScoreRepository;
+
+    private LocalRankingEngine localRankingEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redisServer = RedisServer.newRedisServer(0);
+        redisServer.start();
+
+        context = new SpringApplicationBuilder(CursorApplication.class)
+                .profiles("h2")
+                .properties(
+                        "server.port=0",
+                        "spring.data.redis.host=" + redisServer.getHost(),
+                        "spring.data.redis.port=" + redisServer.getBindPort())
+                .run();
+        gameService = context.getBean(GameService.class);
+        gameBestScoreRepository = context.getBean(GameBestScoreRepository.class);
+        localRankingEngine = context.getBean(LocalRankingEngine.class);
+
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        redisServer.stop();
+    }
+
+    /**
+     * Redis, 인메모리 랭킹, game_best_scores에 같은 최고 점수를 채움
+     */
+    private void seed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime now = LocalDateTime.now();
+        List<ScoreEvent> events = new ArrayList<>(users);
+        List<GameBestScore> bestScores = new ArrayList<>(users);
+        for (long userId = 1; userId <= users; userId++) {
+            int score = random.nextInt(1_000_000);
+            events.add(ScoreEvent.builder()
+                    .userId(userId)
+                    .nickname("player-" + userId)
+                    .score(score)
+                    .gameType(GAME_TYPE)
+                    .timestamp(System.currentTimeMillis())
+                    .build());
+            bestScores.add(GameBestScore.builder()
+                    .userId(userId)
+                    .gameType(GAME_TYPE)
+                    .nickname("player-" + userId)
+                    .score(score)
+                    .achievedAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        gameService.updateRankingBatch(GAME_TYPE, events);
+        gameBestScoreRepository.saveAll(bestScores);
+    }
+
+    @Benchmark
+    public Long submitScore() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long userId = random.nextLong(1, users + 1);
+        return gameService.submitScore(userId, "player-" + userId, random.nextInt(1_000_000), GAME_TYPE);
+    }
+
+    @Benchmark
+    public List<RankingEntry> topRankingsCached() {
+        return gameService.getTopRankings(GAME_TYPE, 10);
+    }
+
+    @Benchmark
+    public List<RankingEntry> rankingsRedis() {
+        return gameService.getRankings(GAME_TYPE, 500, 10);
+    }
+
+    @Benchmark
+    public List<RankingEntry> rankingsDatabaseFallback() {
+        return gameBestScoreRepository.findRankings(GAME_TYPE, PageRequest.of(0, 10));
+    }
+
+    @Benchmark
+    public List<LocalRankingEngine.RankedScore> rankingsLocalFallback() {
+        return localRankingEngine.top(GAME_TYPE, 0, 10);
+    }
+}
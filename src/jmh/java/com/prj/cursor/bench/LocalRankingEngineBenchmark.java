@@ -0,0 +1,59 @@
+package com.prj.cursor.bench;
+
+import com.prj.cursor.service.GameTypes;
+import com.prj.cursor.service.LocalRankingEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 대체 랭킹 벤치마크 (반영, 상위 조회, 순위 조회)
+ *
+ * DB 대체 조회와의 비교는 {@link GameRankingBenchmark}의 rankingsDatabaseFallback을 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LocalRankingEngineBenchmark {
+
+    private static final String GAME_TYPE = "snake";
+
+    @Param("10000")
+    private int capacity;
+
+    private LocalRankingEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = new LocalRankingEngine(null, null, new GameTypes(List.of(GAME_TYPE)), capacity, 64);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < capacity; i++) {
+            engine.submit(GAME_TYPE, i, random.nextInt(1_000_000));
+        }
+    }
+
+    @Benchmark
+    public boolean submit() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return engine.submit(GAME_TYPE, random.nextInt(capacity * 2), random.nextInt(1_000_000));
+    }
+
+    @Benchmark
+    public List<LocalRankingEngine.RankedScore> top10() {
+        return engine.top(GAME_TYPE, 0, 10);
+    }
+
+    @Benchmark
+    public int rankOf() {
+        return engine.rankOf(GAME_TYPE, ThreadLocalRandom.current().nextInt(capacity));
+    }
+}
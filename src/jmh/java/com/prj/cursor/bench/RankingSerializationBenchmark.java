@@ -0,0 +1,107 @@
+package com.prj.cursor.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prj.cursor.config.RedisConfig;
+import com.prj.cursor.dto.RankingEntry;
+import com.prj.cursor.dto.RankingUpdate;
+import com.prj.cursor.service.GameService;
+import com.prj.cursor.service.GameTypes;
+import com.prj.cursor.service.RankingCache;
+import com.prj.cursor.service.RankingSnapshotStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 랭킹 직렬화 경로 벤치마크
+ *
+ * 요청마다 랭킹 목록을 인코딩하는 경우와, 랭킹이 바뀔 때만 인코딩한 스냅샷을 재사용하는 경우를 비교합니다.
+ * 애플리케이션과 같은 ObjectMapper 설정(RedisConfig)을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RankingSerializationBenchmark {
+
+    private static final String GAME_TYPE = "snake";
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<RankingEntry> entries;
+
+    private RankingUpdate frame;
+
+    private RankingSnapshotStore snapshotStore;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new RedisConfig().objectMapper();
+
+        entries = new ArrayList<>(size);
+        LocalDateTime playedAt = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            entries.add(RankingEntry.builder()
+                    .userId(10_000L + i)
+                    .nickname("player-" + i)
+                    .score(1_000_000 - i * 37)
+                    .rank(i + 1)
+                    .playedAt(playedAt)
+                    .build());
+        }
+        frame = RankingUpdate.builder()
+                .gameType(GAME_TYPE)
+                .type(RankingUpdate.Type.SNAPSHOT)
+                .sequence(1)
+                .size(size)
+                .entries(entries)
+                .build();
+
+        GameService gameService = new GameService() {
+            @Override
+            public List<RankingEntry> getTopRankings(String gameType, int limit) {
+                return entries;
+            }
+        };
+        RankingCache rankingCache = new RankingCache(
+                new GameTypes(List.of(GAME_TYPE)), 100, 64, Duration.ofMinutes(10), Duration.ofSeconds(5));
+        snapshotStore = new RankingSnapshotStore(gameService, rankingCache, objectMapper, size, 64);
+    }
+
+    /**
+     * 요청마다 랭킹 목록 인코딩 (HTTP 응답 직렬화)
+     */
+    @Benchmark
+    public byte[] encodeEntries() throws Exception {
+        return objectMapper.writeValueAsBytes(entries);
+    }
+
+    /**
+     * STOMP 프레임 인코딩 (랭킹이 바뀔 때 한 번)
+     */
+    @Benchmark
+    public byte[] encodeFrame() throws Exception {
+        return objectMapper.writeValueAsBytes(frame);
+    }
+
+    /**
+     * 랭킹이 바뀌지 않았을 때 스냅샷 재사용
+     */
+    @Benchmark
+    public byte[] cachedSnapshot() {
+        return snapshotStore.current(GAME_TYPE).getBody();
+    }
+}
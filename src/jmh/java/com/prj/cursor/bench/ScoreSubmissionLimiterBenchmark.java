@@ -0,0 +1,54 @@
+package com.prj.cursor.bench;
+
+import com.prj.cursor.service.GameTypes;
+import com.prj.cursor.service.ScoreSubmissionLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점수 제출 속도 제한 검사 비용 (검사당 1µs 미만 목표)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScoreSubmissionLimiterBenchmark {
+
+    private static final int USERS = 10_000;
+
+    private ScoreSubmissionLimiter limiter;
+
+    private String[] clientKeys;
+
+    @Setup
+    public void setUp() {
+        // 거절되지 않을 만큼 큰 rate로 검사 비용만 측정
+        limiter = new ScoreSubmissionLimiter(true, 1_000_000_000, 1_000_000, "", 64, USERS,
+                new GameTypes(List.of("snake")));
+        clientKeys = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            clientKeys[i] = "user:" + i;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean tryAcquire() {
+        return limiter.tryAcquire("snake", clientKeys[ThreadLocalRandom.current().nextInt(USERS)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean tryAcquireContended() {
+        return limiter.tryAcquire("snake", clientKeys[ThreadLocalRandom.current().nextInt(USERS)]);
+    }
+}
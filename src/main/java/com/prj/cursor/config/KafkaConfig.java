@@ -0,0 +1,76 @@
+package com.prj.cursor.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class KafkaConfig {
+    
+    /**
+     * 점수 이벤트 토픽 - 게임 타입을 키로 보내므로 한 게임의 이벤트는 항상 같은 파티션에 순서대로 쌓입니다.
+     */
+    public static final String SCORE_TOPIC = "game-scores";
+    
+    /**
+     * 점수 이벤트 토픽 생성 (KafkaAdmin이 기동 시 없으면 생성, 파티션 수가 적으면 늘림)
+     * 
+     * 파티션 수가 컨슈머 병렬도의 상한이므로 노드 수 × game.kafka.consumer.concurrency 이상으로 둡니다.
+     * 파티션을 늘리면 키와 파티션의 대응이 바뀌므로, 늘리는 시점에 남아 있던 이벤트는 순서가 보장되지 않습니다.
+     * 
+     * DIRECT 모드(기본값)는 Kafka를 쓰지 않으므로 토픽을 만들지 않습니다. (브로커 없이 기동해도 KafkaAdmin이 접속을 시도하지 않음)
+     */
+    @Bean
+    @ConditionalOnExpression("!'${game.score.ingestion-mode:direct}'.equalsIgnoreCase('direct')")
+    public NewTopic scoreTopic(
+            @Value("${game.kafka.topic.partitions:12}") int partitions,
+            @Value("${game.kafka.topic.replicas:1}") int replicas) {
+        return TopicBuilder.name(SCORE_TOPIC)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+    
+    /**
+     * 프로듀서 max.block.ms 설정 (기본값 60초)
+     * 
+     * send()는 메타데이터를 받을 때까지, 또는 버퍼에 자리가 날 때까지 요청 스레드를 막습니다.
+     * 브로커 장애 시 점수 제출 요청이 오래 멈추지 않도록 짧게 두고, 실패하면 요청 스레드에서 대신 처리합니다.
+     */
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer producerMaxBlockCustomizer(
+            @Value("${game.kafka.producer.max-block:500ms}") Duration maxBlock) {
+        return producerFactory -> producerFactory.updateConfigs(
+                Map.<String, Object>of(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlock.toMillis()));
+    }
+    
+    /**
+     * 점수 이벤트 배치 리스너용 컨테이너 팩토리
+     * 
+     * 한 번의 poll로 받은 레코드를 List로 전달합니다.
+     * 배치 크기는 리스너의 max.poll.records, 폴링 간격은 idle-between-polls로 조절합니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchScoreListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            @Value("${game.kafka.batch.idle-between-polls:0ms}") Duration idleBetweenPolls) {
+        
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setIdleBetweenPolls(idleBetweenPolls.toMillis());
+        return factory;
+    }
+}
@@ -2,10 +2,14 @@ package com.prj.cursor.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prj.cursor.service.RedisRankingFanout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -29,6 +33,19 @@ public class RedisConfig {
         return template;
     }
     
+    /**
+     * 클러스터 모드 랭킹 프레임 수신 (game.ranking.fanout.enabled=true)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "game.ranking.fanout.enabled", havingValue = "true")
+    public RedisMessageListenerContainer rankingFanoutListenerContainer(
+            RedisConnectionFactory connectionFactory, RedisRankingFanout rankingFanout) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(rankingFanout, new ChannelTopic(rankingFanout.getChannel()));
+        return container;
+    }
+    
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
@@ -34,10 +34,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/comments/**").permitAll()
                 .requestMatchers("/api/game/**").permitAll()
                 // WebSocket 엔드포인트
-                .requestMatchers("/ws/**").permitAll()
+                .requestMatchers("/ws/**", "/ws-native").permitAll()
                 // 기타
                 .requestMatchers("/h2-console/**").permitAll()
-                .requestMatchers("/health", "/test").permitAll()
+                .requestMatchers("/health", "/health/websocket", "/health/score-rate-limit", "/test").permitAll()
                 .anyRequest().permitAll()
             );
         
@@ -1,21 +1,89 @@
 package com.prj.cursor.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.time.Duration;
+
+/**
+ * STOMP over WebSocket 설정
+ * 
+ * 연결이 많을 때 느린 클라이언트 몇 개가 outbound 채널 전체를 막지 않도록
+ * 세션별 전송 시간/버퍼 한도를 두고, 한도를 넘은 세션은 닫습니다({@link WebSocketSessionMonitor}가 집계).
+ * SockJS 엔드포인트(/ws) 외에 프레임 오버헤드가 없는 네이티브 WebSocket 엔드포인트(/ws-native)를 제공합니다.
+ * spring.threads.virtual.enabled=true(virtual 프로필)이면 inbound 채널은 메시지마다 가상 스레드에서 처리합니다.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
+    private final WebSocketSessionMonitor sessionMonitor;
+    private final boolean nativeEndpointEnabled;
+    private final Duration serverHeartbeat;
+    private final Duration clientHeartbeat;
+    private final Duration sendTimeLimit;
+    private final DataSize sendBufferSizeLimit;
+    private final DataSize messageSizeLimit;
+    private final Duration timeToFirstMessage;
+    private final int inboundPoolSize;
+    private final int outboundPoolSize;
+    private final int channelQueueCapacity;
+    private final boolean virtualThreads;
+    
+    public WebSocketConfig(
+            WebSocketSessionMonitor sessionMonitor,
+            @Value("${game.websocket.native-endpoint.enabled:true}") boolean nativeEndpointEnabled,
+            @Value("${game.websocket.heartbeat.server:10s}") Duration serverHeartbeat,
+            @Value("${game.websocket.heartbeat.client:10s}") Duration clientHeartbeat,
+            @Value("${game.websocket.send-time-limit:10s}") Duration sendTimeLimit,
+            @Value("${game.websocket.send-buffer-size-limit:512KB}") DataSize sendBufferSizeLimit,
+            @Value("${game.websocket.message-size-limit:64KB}") DataSize messageSizeLimit,
+            @Value("${game.websocket.time-to-first-message:30s}") Duration timeToFirstMessage,
+            @Value("${game.websocket.inbound.pool-size:16}") int inboundPoolSize,
+            @Value("${game.websocket.outbound.pool-size:16}") int outboundPoolSize,
+            @Value("${game.websocket.channel.queue-capacity:10000}") int channelQueueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.sessionMonitor = sessionMonitor;
+        this.nativeEndpointEnabled = nativeEndpointEnabled;
+        this.serverHeartbeat = serverHeartbeat;
+        this.clientHeartbeat = clientHeartbeat;
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+        this.timeToFirstMessage = timeToFirstMessage;
+        this.inboundPoolSize = inboundPoolSize;
+        this.outboundPoolSize = outboundPoolSize;
+        this.channelQueueCapacity = channelQueueCapacity;
+        this.virtualThreads = virtualThreads;
+    }
+    
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
+        // 하트비트 전송용 스케줄러 (서버 → 클라이언트, 클라이언트 → 서버 간격)
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+        
         // 클라이언트가 구독할 수 있는 메시지 브로커 설정
-        config.enableSimpleBroker("/topic");
+        // (/queue는 @SendToUser 응답용: /user/queue/...가 세션별 /queue/...-user{세션 ID}로 바뀌어 전달됨)
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[] {serverHeartbeat.toMillis(), clientHeartbeat.toMillis()})
+                .setTaskScheduler(heartbeatScheduler);
         // 클라이언트에서 서버로 메시지를 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
+        // outbound 스레드가 여러 개여도 세션별 프레임 순서(sequence) 유지
+        config.setPreservePublishOrder(true);
     }
     
     @Override
@@ -24,5 +92,41 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+        
+        // SockJS 없이 바로 연결하는 엔드포인트 (모바일 앱, 부하 테스트 클라이언트용)
+        if (nativeEndpointEnabled) {
+            registry.addEndpoint("/ws-native")
+                    .setAllowedOriginPatterns("*");
+        }
+    }
+    
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .setMessageSizeLimit((int) messageSizeLimit.toBytes())
+                .setTimeToFirstMessage((int) timeToFirstMessage.toMillis())
+                .addDecoratorFactory(sessionMonitor);
+    }
+    
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 점수 제출 처리(JDBC, Redis)가 블로킹이므로 가상 스레드면 풀 크기 제한 없이 처리
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-inbound-"));
+            return;
+        }
+        registration.taskExecutor()
+                .corePoolSize(inboundPoolSize)
+                .maxPoolSize(inboundPoolSize)
+                .queueCapacity(channelQueueCapacity);
+    }
+    
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(channelQueueCapacity);
     }
 }
@@ -0,0 +1,64 @@
+package com.prj.cursor.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 세션 수와 강제 종료(eviction) 횟수 집계
+ *
+ * 전송 시간(send-time-limit)이나 전송 버퍼(send-buffer-size-limit) 한도를 넘은 느린 클라이언트와
+ * 제한 시간 안에 CONNECT를 보내지 않은 클라이언트는 Spring이 SESSION_NOT_RELIABLE로 닫으며,
+ * 이 상태로 닫힌 세션을 강제 종료로 셉니다.
+ */
+@Component
+@Slf4j
+public class WebSocketSessionMonitor implements WebSocketHandlerDecoratorFactory {
+
+    private final AtomicLong activeSessions = new AtomicLong();
+
+    private final AtomicLong openedSessions = new AtomicLong();
+
+    private final AtomicLong evictedSessions = new AtomicLong();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                activeSessions.incrementAndGet();
+                openedSessions.incrementAndGet();
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                activeSessions.decrementAndGet();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    long evicted = evictedSessions.incrementAndGet();
+                    log.warn("느린 WebSocket 클라이언트 강제 종료: sessionId={}, reason={}, evictedTotal={}",
+                            session.getId(), closeStatus.getReason(), evicted);
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public long getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public long getOpenedSessions() {
+        return openedSessions.get();
+    }
+
+    public long getEvictedSessions() {
+        return evictedSessions.get();
+    }
+}
@@ -2,12 +2,15 @@ package com.prj.cursor.controller;
 
 import com.prj.cursor.entity.Board;
 import com.prj.cursor.dto.BoardResponse;
+import com.prj.cursor.dto.BoardSummary;
+import com.prj.cursor.dto.CursorPage;
 import com.prj.cursor.service.BoardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -55,19 +58,16 @@ public class BoardController {
      * @return 게시글 목록 페이지
      */
     @GetMapping
-    public ResponseEntity<Page<BoardResponse>> getBoards(
+    public ResponseEntity<Page<BoardSummary>> getBoards(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
         log.info("게시글 목록 조회 API 호출 - 페이지: {}, 크기: {}", page, size);
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Board> boards = boardService.getBoards(pageable);
+        Page<BoardSummary> boards = boardService.getBoards(pageable);
         
-        // Board 엔티티를 BoardResponse로 변환
-        Page<BoardResponse> boardResponses = boards.map(BoardResponse::from);
-        
-        return ResponseEntity.ok(boardResponses);
+        return ResponseEntity.ok(boards);
     }
 
     /**
@@ -262,7 +262,7 @@ public class BoardController {
      * @return 카테고리별 게시글 목록
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<Page<BoardResponse>> getBoardsByCategory(
+    public ResponseEntity<Page<BoardSummary>> getBoardsByCategory(
             @PathVariable String category,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -270,12 +270,9 @@ public class BoardController {
         log.info("카테고리별 게시글 조회 API 호출 - 카테고리: {}", category);
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Board> boards = boardService.getBoardsByCategory(category, pageable);
-        
-        // Board 엔티티를 BoardResponse로 변환
-        Page<BoardResponse> boardResponses = boards.map(BoardResponse::from);
+        Page<BoardSummary> boards = boardService.getBoardsByCategory(category, pageable);
         
-        return ResponseEntity.ok(boardResponses);
+        return ResponseEntity.ok(boards);
     }
 
     /**
@@ -289,7 +286,7 @@ public class BoardController {
      * @return 검색 결과 게시글 목록
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<BoardResponse>> searchBoards(
+    public ResponseEntity<Page<BoardSummary>> searchBoards(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -297,12 +294,9 @@ public class BoardController {
         log.info("게시글 검색 API 호출 - 키워드: {}", keyword);
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Board> boards = boardService.searchBoards(keyword, pageable);
+        Page<BoardSummary> boards = boardService.searchBoards(keyword, pageable);
         
-        // Board 엔티티를 BoardResponse로 변환
-        Page<BoardResponse> boardResponses = boards.map(BoardResponse::from);
-        
-        return ResponseEntity.ok(boardResponses);
+        return ResponseEntity.ok(boards);
     }
 
     /**
@@ -315,19 +309,16 @@ public class BoardController {
      * @return 인기 게시글 목록
      */
     @GetMapping("/popular")
-    public ResponseEntity<Page<BoardResponse>> getPopularBoards(
+    public ResponseEntity<Page<BoardSummary>> getPopularBoards(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
         log.info("인기 게시글 조회 API 호출");
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Board> boards = boardService.getPopularBoards(pageable);
-        
-        // Board 엔티티를 BoardResponse로 변환
-        Page<BoardResponse> boardResponses = boards.map(BoardResponse::from);
+        Page<BoardSummary> boards = boardService.getPopularBoards(pageable);
         
-        return ResponseEntity.ok(boardResponses);
+        return ResponseEntity.ok(boards);
     }
 
     /**
@@ -341,7 +332,7 @@ public class BoardController {
      * @return 작성자별 게시글 목록
      */
     @GetMapping("/author/{userNo}")
-    public ResponseEntity<Page<BoardResponse>> getBoardsByAuthor(
+    public ResponseEntity<Page<BoardSummary>> getBoardsByAuthor(
             @PathVariable Long userNo,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -350,18 +341,179 @@ public class BoardController {
         
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Board> boards = boardService.getBoardsByAuthor(userNo, pageable);
+            Page<BoardSummary> boards = boardService.getBoardsByAuthor(userNo, pageable);
             
-            // Board 엔티티를 BoardResponse로 변환
-            Page<BoardResponse> boardResponses = boards.map(BoardResponse::from);
-            
-            return ResponseEntity.ok(boardResponses);
+            return ResponseEntity.ok(boards);
         } catch (IllegalArgumentException e) {
             log.error("작성자별 게시글 조회 실패 - 사용자 번호: {}, 오류: {}", userNo, e.getMessage());
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * 게시글 검색 (전체 개수 없이 다음 페이지 여부만 반환)
+     * 
+     * 검색 조건의 COUNT 쿼리를 생략하므로 목록 조회 비용이 절반 가까이 줄어듭니다.
+     * 
+     * @param keyword 검색 키워드
+     * @param page 페이지 번호 (기본값: 0)
+     * @param size 페이지 크기 (기본값: 10)
+     * @return 검색 결과 슬라이스
+     */
+    @GetMapping("/search/slice")
+    public ResponseEntity<Slice<BoardSummary>> searchBoardSlice(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("게시글 검색(슬라이스) API 호출 - 키워드: {}", keyword);
+        
+        Slice<BoardSummary> boards = boardService.searchBoardSlice(keyword, PageRequest.of(page, size));
+        return ResponseEntity.ok(boards);
+    }
+
+    /**
+     * 인기 게시글 조회 (전체 개수 없이 다음 페이지 여부만 반환)
+     * 
+     * @param page 페이지 번호 (기본값: 0)
+     * @param size 페이지 크기 (기본값: 10)
+     * @return 인기 게시글 슬라이스
+     */
+    @GetMapping("/popular/slice")
+    public ResponseEntity<Slice<BoardSummary>> getPopularBoardSlice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("인기 게시글(슬라이스) 조회 API 호출");
+        
+        Slice<BoardSummary> boards = boardService.getPopularBoardSlice(PageRequest.of(page, size));
+        return ResponseEntity.ok(boards);
+    }
+
+    /**
+     * 작성자별 게시글 조회 (전체 개수 없이 다음 페이지 여부만 반환)
+     * 
+     * @param userNo 사용자 번호
+     * @param page 페이지 번호 (기본값: 0)
+     * @param size 페이지 크기 (기본값: 10)
+     * @return 작성자별 게시글 슬라이스
+     */
+    @GetMapping("/author/{userNo}/slice")
+    public ResponseEntity<Slice<BoardSummary>> getBoardSliceByAuthor(
+            @PathVariable Long userNo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("작성자별 게시글(슬라이스) 조회 API 호출 - 사용자 번호: {}", userNo);
+        
+        try {
+            Slice<BoardSummary> boards = boardService.getBoardSliceByAuthor(userNo, PageRequest.of(page, size));
+            return ResponseEntity.ok(boards);
+        } catch (IllegalArgumentException e) {
+            log.error("작성자별 게시글(슬라이스) 조회 실패 - 사용자 번호: {}, 오류: {}", userNo, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 게시글 목록 커서 조회 (최신순)
+     * 
+     * 응답의 nextCursor를 다음 요청의 cursor로 보내 이어서 조회합니다.
+     * 전체 개수를 세지 않으므로 깊은 페이지도 첫 페이지와 같은 비용입니다.
+     * 
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 10, 최대 100)
+     * @return 게시글 커서 페이지
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<BoardSummary>> getBoardsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("게시글 커서 조회 API 호출 - 크기: {}", size);
+        
+        try {
+            CursorPage<BoardSummary> boards = boardService.getBoardsByCursor(cursor, size);
+            return ResponseEntity.ok(boards);
+        } catch (IllegalArgumentException e) {
+            log.error("게시글 커서 조회 실패 - 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 카테고리별 게시글 커서 조회 (최신순)
+     * 
+     * @param category 게시글 카테고리
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 10, 최대 100)
+     * @return 게시글 커서 페이지
+     */
+    @GetMapping("/category/{category}/cursor")
+    public ResponseEntity<CursorPage<BoardSummary>> getBoardsByCategoryAndCursor(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("카테고리별 게시글 커서 조회 API 호출 - 카테고리: {}", category);
+        
+        try {
+            CursorPage<BoardSummary> boards = boardService.getBoardsByCategoryAndCursor(category, cursor, size);
+            return ResponseEntity.ok(boards);
+        } catch (IllegalArgumentException e) {
+            log.error("카테고리별 게시글 커서 조회 실패 - 카테고리: {}, 오류: {}", category, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 인기 게시글 커서 조회 (조회수순)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 10, 최대 100)
+     * @return 게시글 커서 페이지
+     */
+    @GetMapping("/popular/cursor")
+    public ResponseEntity<CursorPage<BoardSummary>> getPopularBoardsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("인기 게시글 커서 조회 API 호출");
+        
+        try {
+            CursorPage<BoardSummary> boards = boardService.getPopularBoardsByCursor(cursor, size);
+            return ResponseEntity.ok(boards);
+        } catch (IllegalArgumentException e) {
+            log.error("인기 게시글 커서 조회 실패 - 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 작성자별 게시글 커서 조회 (최신순)
+     * 
+     * @param userNo 사용자 번호
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 10, 최대 100)
+     * @return 게시글 커서 페이지
+     */
+    @GetMapping("/author/{userNo}/cursor")
+    public ResponseEntity<CursorPage<BoardSummary>> getBoardsByAuthorAndCursor(
+            @PathVariable Long userNo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("작성자별 게시글 커서 조회 API 호출 - 사용자 번호: {}", userNo);
+        
+        try {
+            CursorPage<BoardSummary> boards = boardService.getBoardsByAuthorAndCursor(userNo, cursor, size);
+            return ResponseEntity.ok(boards);
+        } catch (IllegalArgumentException e) {
+            log.error("작성자별 게시글 커서 조회 실패 - 사용자 번호: {}, 오류: {}", userNo, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 조회수 증가
      * 
@@ -3,12 +3,22 @@ package com.prj.cursor.controller;
 import com.prj.cursor.dto.RankingEntry;
 import com.prj.cursor.dto.ScoreSubmission;
 import com.prj.cursor.service.GameService;
+import com.prj.cursor.service.RankingSnapshot;
+import com.prj.cursor.service.RankingSnapshotStore;
+import com.prj.cursor.service.RankingWindow;
+import com.prj.cursor.service.ScoreSubmissionLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/game")
@@ -18,41 +28,122 @@ public class GameController {
     
     private final GameService gameService;
     
+    private final RankingSnapshotStore rankingSnapshotStore;
+    
+    private final ScoreSubmissionLimiter scoreSubmissionLimiter;
+    
+    /**
+     * 랭킹 조회
+     * 
+     * window: daily, weekly, all-time (기본값 all-time)
+     * 
+     * 전체 기간 상위 랭킹(offset=0, limit=스냅샷 크기)은 미리 인코딩된 스냅샷을 그대로 내려보내며,
+     * If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답합니다.
+     */
     @GetMapping("/rankings/{gameType}")
-    public ResponseEntity<List<RankingEntry>> getRankings(
+    public ResponseEntity<?> getRankings(
             @PathVariable String gameType,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "all-time") String window,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         try {
-            log.info("랭킹 조회 요청: gameType={}, limit={}", gameType, limit);
+            log.info("랭킹 조회 요청: gameType={}, window={}, offset={}, limit={}", gameType, window, offset, limit);
+            
+            RankingWindow rankingWindow = RankingWindow.from(window);
+            if (rankingWindow == RankingWindow.ALL_TIME && offset == 0 && limit == rankingSnapshotStore.getSize()) {
+                return toSnapshotResponse(rankingSnapshotStore.current(gameType), ifNoneMatch);
+            }
             
-            List<RankingEntry> rankings = gameService.getTopRankings(gameType, limit);
+            List<RankingEntry> rankings = gameService.getRankings(gameType, rankingWindow, offset, limit);
             
             return ResponseEntity.ok(rankings);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 랭킹 조회 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("랭킹 조회 중 오류 발생: gameType={}, limit={}", gameType, limit, e);
             return ResponseEntity.internalServerError().build();
         }
     }
     
+    private ResponseEntity<byte[]> toSnapshotResponse(RankingSnapshot snapshot, String ifNoneMatch) {
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
+    }
+    
+    /**
+     * 사용자 주변 순위 조회 (앞뒤 radius명 포함)
+     */
+    @GetMapping("/rankings/{gameType}/users/{userId}")
+    public ResponseEntity<List<RankingEntry>> getRankingsAround(
+            @PathVariable String gameType,
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "5") int radius) {
+        
+        try {
+            return ResponseEntity.ok(gameService.getRankingsAround(gameType, userId, radius));
+            
+        } catch (Exception e) {
+            log.error("주변 순위 조회 중 오류 발생: gameType={}, userId={}", gameType, userId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * 점수 제출
+     * 
+     * 요청 스레드에서 랭킹이 반영된 경우 응답에 반영 후 순위(rank)를 함께 담습니다.
+     * 사용자별 제출 속도 한도를 넘으면 429를 응답합니다.
+     * 사용자 ID나 점수가 없거나 알 수 없는 게임 타입 등 잘못된 제출이면 400을 응답합니다.
+     */
     @PostMapping("/score")
-    public ResponseEntity<String> submitScore(@RequestBody ScoreSubmission submission) {
+    public ResponseEntity<Map<String, Object>> submitScore(@RequestBody ScoreSubmission submission) {
+        Map<String, Object> response = new HashMap<>();
         try {
             log.info("점수 제출 요청: {}", submission);
             
-            gameService.submitScore(
+            // 사용자 ID가 없으면 모든 익명 요청이 "user:null" 버킷 하나를 나눠 쓰게 되므로 제한 전에 거부
+            if (submission.getUserId() == null) {
+                response.put("message", "사용자 ID가 필요합니다.");
+                return ResponseEntity.badRequest().body(response);
+            }
+            
+            if (!scoreSubmissionLimiter.tryAcquire(submission.getGameType(), "user:" + submission.getUserId())) {
+                response.put("message", "점수 제출이 너무 잦습니다. 잠시 후 다시 시도해 주세요.");
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+            }
+            
+            Long rank = gameService.submitScore(
                 submission.getUserId(),
                 submission.getNickname(),
                 submission.getScore(),
                 submission.getGameType()
             );
             
-            return ResponseEntity.ok("점수가 성공적으로 제출되었습니다.");
+            response.put("message", "점수가 성공적으로 제출되었습니다.");
+            response.put("rank", rank);
+            return ResponseEntity.ok(response);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 점수 제출: {}, reason={}", submission, e.getMessage());
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
             log.error("점수 제출 중 오류 발생: {}", submission, e);
-            return ResponseEntity.internalServerError().body("점수 제출에 실패했습니다.");
+            response.put("message", "점수 제출에 실패했습니다.");
+            return ResponseEntity.internalServerError().body(response);
         }
     }
 }
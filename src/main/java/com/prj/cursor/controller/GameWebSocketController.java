@@ -3,14 +3,18 @@ package com.prj.cursor.controller;
 import com.prj.cursor.dto.RankingEntry;
 import com.prj.cursor.dto.ScoreSubmission;
 import com.prj.cursor.service.GameService;
+import com.prj.cursor.service.ScoreSubmissionLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -18,30 +22,50 @@ import java.util.List;
 public class GameWebSocketController {
     
     private final GameService gameService;
-    private final SimpMessagingTemplate messagingTemplate;
     
+    private final ScoreSubmissionLimiter scoreSubmissionLimiter;
+    
+    /**
+     * 점수 제출 - 제출한 세션에만 반영 후 순위를 응답합니다.
+     * 
+     * 제출 속도는 사용자별로(사용자 ID가 없으면 세션별로) 제한하며, 한도를 넘으면 rateLimited=true로 응답합니다.
+     */
     @MessageMapping("/game/score")
-    public void submitScore(ScoreSubmission scoreSubmission) {
+    @SendToUser("/queue/game/score-result")
+    public Map<String, Object> submitScore(ScoreSubmission scoreSubmission,
+                                           @Header("simpSessionId") String sessionId) {
+        Map<String, Object> response = new HashMap<>();
         try {
             log.info("WebSocket 점수 제출: {}", scoreSubmission);
             
-            // 점수 제출
-            gameService.submitScore(
+            String clientKey = scoreSubmission.getUserId() != null
+                    ? "user:" + scoreSubmission.getUserId() : "session:" + sessionId;
+            if (!scoreSubmissionLimiter.tryAcquire(scoreSubmission.getGameType(), clientKey)) {
+                response.put("success", false);
+                response.put("rateLimited", true);
+                return response;
+            }
+            
+            // 점수 제출 (랭킹 브로드캐스트는 랭킹이 반영되는 시점에 GameService가 요청)
+            Long rank = gameService.submitScore(
                 scoreSubmission.getUserId(),
                 scoreSubmission.getNickname(),
                 scoreSubmission.getScore(),
                 scoreSubmission.getGameType()
             );
             
-            // 업데이트된 랭킹 조회 및 전송
-            List<RankingEntry> rankings = gameService.getTopRankings(scoreSubmission.getGameType(), 10);
-            messagingTemplate.convertAndSend("/topic/rankings/" + scoreSubmission.getGameType(), rankings);
-            
-            log.info("실시간 랭킹 전송 완료: gameType={}, count={}", scoreSubmission.getGameType(), rankings.size());
+            response.put("success", true);
+            response.put("rank", rank);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 WebSocket 점수 제출: {}, reason={}", scoreSubmission, e.getMessage());
+            response.put("success", false);
+            response.put("message", e.getMessage());
         } catch (Exception e) {
             log.error("WebSocket 점수 제출 중 오류 발생: {}", scoreSubmission, e);
+            response.put("success", false);
         }
+        return response;
     }
     
     /**
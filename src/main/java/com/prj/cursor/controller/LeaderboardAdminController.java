@@ -0,0 +1,94 @@
+package com.prj.cursor.controller;
+
+import com.prj.cursor.service.LeaderboardRebuildService;
+import com.prj.cursor.service.RankingWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 랭킹 운영 API (재구성, 진행 상황)
+ * 
+ * 재구성은 game_scores 전체를 읽고 Redis 랭킹을 덮어쓰는 무거운 작업이라 누구나 호출할 수 없도록
+ * game.ranking.admin.enabled=true인 운영 노드에서만 등록됩니다. (기본값 false)
+ */
+@RestController
+@RequestMapping("/api/game")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "game.ranking.admin.enabled", havingValue = "true")
+public class LeaderboardAdminController {
+    
+    private final LeaderboardRebuildService leaderboardRebuildService;
+    
+    /**
+     * 현재 기간 랭킹을 game_scores에서 재구성
+     */
+    @PostMapping("/rankings/{gameType}/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRankings(
+            @PathVariable String gameType,
+            @RequestParam(defaultValue = "all-time") String window) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            RankingWindow rankingWindow = RankingWindow.from(window);
+            long rows = leaderboardRebuildService.rebuild(gameType, rankingWindow);
+            
+            response.put("message", "랭킹이 재구성되었습니다.");
+            response.put("window", rankingWindow.getValue());
+            response.put("rows", rows);
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalArgumentException e) {
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (IllegalStateException e) {
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (Exception e) {
+            log.error("랭킹 재구성 중 오류 발생: gameType={}, window={}", gameType, window, e);
+            response.put("message", "랭킹 재구성에 실패했습니다.");
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+    
+    /**
+     * 점수 이력이 있는 모든 게임의 랭킹 재구성 예약 (백그라운드 실행)
+     */
+    @PostMapping("/rankings/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildAllRankings(
+            @RequestParam(defaultValue = "all-time") String window) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            RankingWindow rankingWindow = RankingWindow.from(window);
+            int scheduled = leaderboardRebuildService.rebuildAll(rankingWindow);
+            
+            response.put("message", "랭킹 재구성이 예약되었습니다.");
+            response.put("window", rankingWindow.getValue());
+            response.put("scheduled", scheduled);
+            return ResponseEntity.accepted().body(response);
+            
+        } catch (IllegalArgumentException e) {
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("전체 랭킹 재구성 예약 중 오류 발생: window={}", window, e);
+            response.put("message", "랭킹 재구성 예약에 실패했습니다.");
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+    
+    /**
+     * 랭킹 재구성 진행 상황
+     */
+    @GetMapping("/rankings/rebuild/status")
+    public ResponseEntity<List<LeaderboardRebuildService.RebuildProgress>> getRebuildStatus() {
+        return ResponseEntity.ok(leaderboardRebuildService.getProgress());
+    }
+}
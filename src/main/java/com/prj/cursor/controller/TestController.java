@@ -1,15 +1,25 @@
 package com.prj.cursor.controller;
 
+import com.prj.cursor.config.WebSocketSessionMonitor;
+import com.prj.cursor.service.ScoreSubmissionLimiter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 /**
  * 테스트용 컨트롤러
  * 애플리케이션 연결 상태를 확인하기 위한 엔드포인트 제공
  */
 @RestController
+@RequiredArgsConstructor
 public class TestController {
     
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+    
+    private final ScoreSubmissionLimiter scoreSubmissionLimiter;
+    
     /**
      * 애플리케이션 상태 확인
      * @return 상태 메시지
@@ -27,4 +37,29 @@ public class TestController {
     public String health() {
         return "OK";
     }
+    
+    /**
+     * WebSocket 세션 현황 (현재 연결 수, 누적 연결 수, 느린 클라이언트 강제 종료 수)
+     * @return 세션 통계
+     */
+    @GetMapping("/health/websocket")
+    public Map<String, Long> webSocketHealth() {
+        return Map.of(
+            "active", webSocketSessionMonitor.getActiveSessions(),
+            "opened", webSocketSessionMonitor.getOpenedSessions(),
+            "evicted", webSocketSessionMonitor.getEvictedSessions()
+        );
+    }
+    
+    /**
+     * 점수 제출 속도 제한 현황 (허용 수, 게임별 거절 수)
+     * @return 속도 제한 통계
+     */
+    @GetMapping("/health/score-rate-limit")
+    public Map<String, Object> scoreRateLimitHealth() {
+        return Map.of(
+            "allowed", scoreSubmissionLimiter.getAllowedCount(),
+            "rejected", scoreSubmissionLimiter.getRejectedCounts()
+        );
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.prj.cursor.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서
+ * 
+ * 마지막으로 받은 게시글의 정렬 키를 담으며, 다음 페이지는 이 키보다 뒤에 오는 게시글부터 조회합니다.
+ * 클라이언트에는 정렬 종류와 키를 묶은 Base64(URL) 문자열로만 전달하므로 형식에 의존하지 않아야 합니다.
+ * 
+ * - 최신순: (createdAt, boardNo) 내림차순
+ * - 인기순: (viewCount, createdAt, boardNo) 내림차순
+ * 
+ * @author Cursor Project
+ * @version 1.0
+ * @since 2024
+ */
+@Getter
+public class BoardCursor {
+    
+    /**
+     * 첫 페이지의 기준 시각 (어떤 게시글보다도 뒤)
+     */
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    
+    private final Order order;
+    
+    private final long viewCount;
+    
+    private final LocalDateTime createdAt;
+    
+    private final long boardNo;
+    
+    private BoardCursor(Order order, long viewCount, LocalDateTime createdAt, long boardNo) {
+        this.order = order;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+        this.boardNo = boardNo;
+    }
+    
+    /**
+     * 첫 페이지 커서 (모든 게시글보다 앞 순서)
+     */
+    public static BoardCursor first(Order order) {
+        return new BoardCursor(order, Long.MAX_VALUE, MAX_CREATED_AT, Long.MAX_VALUE);
+    }
+    
+    /**
+     * 게시글 다음부터 조회하는 커서
+     */
+    public static BoardCursor after(Order order, BoardSummary board) {
+        long viewCount = board.getViewCount() != null ? board.getViewCount() : 0L;
+        return new BoardCursor(order, viewCount, board.getCreatedAt(), board.getBoardNo());
+    }
+    
+    /**
+     * 클라이언트가 보낸 커서 해석 (없으면 첫 페이지)
+     * 
+     * @throws IllegalArgumentException 형식이 잘못되었거나 다른 정렬의 커서인 경우
+     */
+    public static BoardCursor decode(Order order, String value) {
+        if (value == null || value.isBlank()) {
+            return first(order);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            if (parts.length != 4 || !parts[0].equals(order.code)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new BoardCursor(order, Long.parseLong(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException과 Base64 오류도 IllegalArgumentException
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+    
+    /**
+     * 클라이언트에 전달할 문자열
+     */
+    public String encode() {
+        String raw = order.code + "|" + viewCount + "|" + createdAt + "|" + boardNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서 정렬 종류
+     */
+    public enum Order {
+        LATEST("L"),
+        POPULAR("P");
+        
+        private final String code;
+        
+        Order(String code) {
+            this.code = code;
+        }
+    }
+}
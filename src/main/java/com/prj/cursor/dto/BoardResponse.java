@@ -1,6 +1,7 @@
 package com.prj.cursor.dto;
 
 import com.prj.cursor.entity.Board;
+import com.prj.cursor.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -168,7 +169,7 @@ public class BoardResponse {
         private String email;
         private String userRole;
         
-        public static AuthorInfo from(com.prj.cursor.entity.User user) {
+        public static AuthorInfo from(User user) {
             if (user == null) {
                 return null;
             }
@@ -0,0 +1,155 @@
+package com.prj.cursor.dto;
+
+import com.prj.cursor.entity.Board;
+import com.prj.cursor.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 항목 DTO
+ * 
+ * 목록 화면에 필요한 정보만 담으며, 본문 대신 쿼리에서 잘라 온 미리보기(contentPreview)를 포함합니다.
+ * 본문 전체(TEXT)는 DB에서 읽지도, 응답에 싣지도 않습니다. 상세 조회는 {@link BoardResponse}를 사용합니다.
+ * 
+ * @author Cursor Project
+ * @version 1.0
+ * @since 2024
+ * @see BoardResponse
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSummary {
+    
+    /**
+     * 미리보기 최대 길이 (문자 수)
+     */
+    public static final int PREVIEW_LENGTH = 100;
+    
+    /**
+     * 게시글 번호
+     */
+    private Long boardNo;
+    
+    /**
+     * 게시글 제목
+     */
+    private String title;
+    
+    /**
+     * 내용 미리보기 (PREVIEW_LENGTH자를 넘으면 잘라서 "..."을 붙임)
+     */
+    private String contentPreview;
+    
+    /**
+     * 게시글 카테고리
+     */
+    private String category;
+    
+    /**
+     * 작성자 정보
+     */
+    private BoardResponse.AuthorInfo author;
+    
+    /**
+     * 조회수
+     */
+    private Long viewCount;
+    
+    /**
+     * 좋아요 수
+     */
+    private Long likeCount;
+    
+    /**
+     * 댓글 수
+     */
+    private Long commentCount;
+    
+    /**
+     * 게시글 상태
+     */
+    private Board.BoardStatus status;
+    
+    /**
+     * 생성일시
+     */
+    private LocalDateTime createdAt;
+    
+    /**
+     * 수정일시
+     */
+    private LocalDateTime updatedAt;
+    
+    /**
+     * 목록 조회용 프로젝션 생성자
+     * 
+     * BoardRepository의 JPQL 생성자 표현식(SELECT new ...)에서 사용합니다.
+     * previewSource는 쿼리에서 SUBSTRING으로 PREVIEW_LENGTH + 1자까지만 잘라 온 본문이며,
+     * 한 글자를 더 읽어 미리보기 뒤에 내용이 더 있는지 판단합니다.
+     */
+    public BoardSummary(Long boardNo, String title, String previewSource, String category,
+                        Long authorUserNo, String authorNickname, String authorEmail, User.UserRole authorRole,
+                        Long viewCount, Long likeCount, Long commentCount, Board.BoardStatus status,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.boardNo = boardNo;
+        this.title = title;
+        this.contentPreview = preview(previewSource);
+        this.category = category;
+        this.author = BoardResponse.AuthorInfo.builder()
+                .userNo(authorUserNo)
+                .nickname(authorNickname)
+                .email(authorEmail)
+                .userRole(authorRole != null ? authorRole.toString() : null)
+                .build();
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
+    /**
+     * Board 엔티티로부터 BoardSummary를 생성하는 정적 팩토리 메서드
+     * 
+     * @param board Board 엔티티
+     * @return BoardSummary 객체
+     */
+    public static BoardSummary from(Board board) {
+        return BoardSummary.builder()
+                .boardNo(board.getBoardNo())
+                .title(board.getTitle())
+                .contentPreview(preview(board.getContent()))
+                .category(board.getCategory())
+                .author(BoardResponse.AuthorInfo.from(board.getAuthor()))
+                .viewCount(board.getViewCount())
+                .likeCount(board.getLikeCount())
+                .commentCount(board.getCommentCount())
+                .status(board.getStatus())
+                .createdAt(board.getCreatedAt())
+                .updatedAt(board.getUpdatedAt())
+                .build();
+    }
+    
+    /**
+     * 미리보기 생성 (DB와 같이 문자 단위로 자르므로 이모지 등 보조 문자가 깨지지 않음)
+     * 
+     * @param content 본문 또는 본문 앞부분
+     * @return 미리보기 내용
+     */
+    public static String preview(String content) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+        if (content.codePointCount(0, content.length()) <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH)) + "...";
+    }
+}
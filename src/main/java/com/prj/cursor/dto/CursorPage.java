@@ -0,0 +1,53 @@
+package com.prj.cursor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ * 
+ * 전체 개수를 세지 않으며, 다음 페이지가 있으면 nextCursor를 그대로 다시 보내 이어서 조회합니다.
+ * 
+ * @author Cursor Project
+ * @version 1.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    
+    /**
+     * 페이지 항목
+     */
+    private List<T> content;
+    
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+    
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+    
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+    
+    /**
+     * 항목 변환 (커서 정보는 유지)
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new CursorPage<>(converted, size, hasNext, nextCursor);
+    }
+}
@@ -12,8 +12,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RankingEntry {
+    private Long userId;
     private String nickname;
     private Integer score;
     private Integer rank;
     private LocalDateTime playedAt;
+    
+    /**
+     * JPQL 생성자 프로젝션용 (순위는 조회 후 부여)
+     */
+    public RankingEntry(Long userId, String nickname, Integer score, LocalDateTime playedAt) {
+        this(userId, nickname, score, null, playedAt);
+    }
 }
@@ -0,0 +1,47 @@
+package com.prj.cursor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 실시간 랭킹 프레임 (/topic/rankings/{gameType})
+ * 
+ * SNAPSHOT은 전체 랭킹을, DELTA는 이전 프레임 대비 바뀐 순위만 담습니다.
+ * 클라이언트는 sequence가 건너뛰면 전체 랭킹을 다시 조회해야 합니다.
+ * 클러스터 모드에서는 순번이 노드별로 매겨지므로 origin별로 확인합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingUpdate {
+    
+    public enum Type {
+        SNAPSHOT,
+        DELTA
+    }
+    
+    private String gameType;
+    private Type type;
+    
+    /**
+     * 프레임을 만든 노드 ID (클러스터 모드에서만 설정)
+     */
+    private String origin;
+    
+    /**
+     * 게임 타입별 프레임 순번
+     */
+    private long sequence;
+    
+    /**
+     * 이 프레임 적용 후 랭킹 목록의 크기
+     */
+    private int size;
+    
+    private List<RankingEntry> entries;
+}
@@ -13,7 +13,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "boards")
+@Table(name = "boards", indexes = {
+        @Index(name = "idx_boards_active_created", columnList = "is_active, createdAt, boardNo"),
+        @Index(name = "idx_boards_category_created", columnList = "category, status, is_active, createdAt, boardNo"),
+        @Index(name = "idx_boards_author_created", columnList = "user_no, is_active, createdAt, boardNo"),
+        @Index(name = "idx_boards_active_views", columnList = "is_active, viewCount, createdAt, boardNo")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -86,6 +91,7 @@ public class Board {
      */
     @Enumerated(EnumType.STRING)
     @Column(length = 20)
+    @Builder.Default
     private BoardStatus status = BoardStatus.ACTIVE;
     
     /**
@@ -0,0 +1,32 @@
+package com.prj.cursor.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 수 카운터
+ *
+ * 목록 화면의 전체 개수를 COUNT(*) 대신 이 테이블에서 읽습니다.
+ * 게시글 생성, 삭제, 비활성화, 활성화, 카테고리 변경 시 같은 트랜잭션에서 증감되며,
+ * 기동 시 boards 테이블 기준으로 다시 맞춥니다.
+ *
+ * counterKey: "all" (활성 게시글 전체), "category:{카테고리}" (카테고리별 활성 게시글)
+ */
+@Entity
+@Table(name = "board_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardCounter {
+
+    @Id
+    @Column(length = 100)
+    private String counterKey;
+
+    @Column(nullable = false)
+    private Long boardCount;
+}
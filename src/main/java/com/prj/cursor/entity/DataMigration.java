@@ -0,0 +1,31 @@
+package com.prj.cursor.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번만 실행해야 하는 데이터 적재 작업의 완료 기록
+ *
+ * 작업과 같은 트랜잭션에서 행을 추가하므로, 행이 있으면 작업이 커밋된 것이고
+ * 여러 노드가 동시에 기동해도 기본 키 충돌로 한 노드만 실행합니다.
+ */
+@Entity
+@Table(name = "data_migrations")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataMigration {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
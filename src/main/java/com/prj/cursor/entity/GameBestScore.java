@@ -0,0 +1,54 @@
+package com.prj.cursor.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 게임 최고 점수 (game_scores 롤업)
+ *
+ * (userId, gameType)마다 한 행이며, 점수 이력을 저장할 때 같은 트랜잭션에서 갱신됩니다.
+ * DB 랭킹 조회는 원본 이력 대신 이 테이블의 (gameType, score) 인덱스를 사용합니다.
+ */
+@Entity
+@Table(name = "game_best_scores",
+       uniqueConstraints = @UniqueConstraint(name = "uk_game_best_scores_user_game", columnNames = {"userId", "gameType"}),
+       indexes = @Index(name = "idx_game_best_scores_ranking", columnList = "gameType, score DESC, userId"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameBestScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 20)
+    private String gameType;
+
+    /**
+     * 가장 최근에 제출된 닉네임
+     */
+    @Column(nullable = false, length = 50)
+    private String nickname;
+
+    @Column(nullable = false)
+    private Integer score;
+
+    /**
+     * 최고 점수를 기록한 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime achievedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
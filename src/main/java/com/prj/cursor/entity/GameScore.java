@@ -10,7 +10,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "game_scores")
+@Table(name = "game_scores", indexes = {
+        @Index(name = "idx_game_scores_type_score", columnList = "gameType, score DESC"),
+        @Index(name = "idx_game_scores_type_created", columnList = "gameType, createdAt"),
+        @Index(name = "idx_game_scores_user_type", columnList = "userId, gameType")
+})
 @Data
 @Builder
 @NoArgsConstructor
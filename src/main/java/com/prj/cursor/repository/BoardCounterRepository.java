@@ -0,0 +1,65 @@
+package com.prj.cursor.repository;
+
+import com.prj.cursor.entity.BoardCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BoardCounterRepository extends JpaRepository<BoardCounter, String> {
+    
+    /**
+     * 카운터 값 조회 (행이 없으면 empty)
+     */
+    @Query("SELECT c.boardCount FROM BoardCounter c WHERE c.counterKey = :counterKey")
+    Optional<Long> findCount(@Param("counterKey") String counterKey);
+    
+    /**
+     * 카운터 증감 (행이 없으면 생성, MariaDB UPSERT)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO board_counters (counter_key, board_count) VALUES (:counterKey, :delta) " +
+                   "ON DUPLICATE KEY UPDATE board_count = board_count + VALUES(board_count)",
+           nativeQuery = true)
+    void add(@Param("counterKey") String counterKey, @Param("delta") long delta);
+    
+    /**
+     * 전체 활성 게시글 수로 "all" 카운터를 제자리에서 재계산 (행이 없으면 생성)
+     * 
+     * 행을 지우지 않으므로 다른 노드의 증감(add)과 겹쳐도 행이 사라지거나 키가 충돌하지 않습니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO board_counters (counter_key, board_count) " +
+                   "SELECT 'all', COUNT(*) FROM boards WHERE is_active = TRUE " +
+                   "ON DUPLICATE KEY UPDATE board_count = VALUES(board_count)",
+           nativeQuery = true)
+    int upsertTotalCount();
+    
+    /**
+     * 카테고리별 활성 게시글 수로 카테고리 카운터를 제자리에서 재계산 (행이 없으면 생성)
+     * 
+     * 카테고리 목록과 같이 status = 'ACTIVE'인 게시글만 셉니다 (BoardCounterService.countsInCategory와 같은 조건).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO board_counters (counter_key, board_count) " +
+                   "SELECT CONCAT('category:', category), COUNT(*) FROM boards " +
+                   "WHERE is_active = TRUE AND status = 'ACTIVE' AND category IS NOT NULL GROUP BY category " +
+                   "ON DUPLICATE KEY UPDATE board_count = VALUES(board_count)",
+           nativeQuery = true)
+    int upsertCategoryCounts();
+    
+    /**
+     * 활성 게시글이 하나도 없는 카테고리 카운터를 0으로 맞춤
+     */
+    @Modifying
+    @Query(value = "UPDATE board_counters SET board_count = 0 " +
+                   "WHERE counter_key LIKE 'category:%' AND board_count <> 0 AND counter_key NOT IN (" +
+                   "SELECT CONCAT('category:', category) FROM boards " +
+                   "WHERE is_active = TRUE AND status = 'ACTIVE' AND category IS NOT NULL)",
+           nativeQuery = true)
+    int resetEmptyCategoryCounts();
+}
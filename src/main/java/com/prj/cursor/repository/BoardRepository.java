@@ -1,17 +1,25 @@
 package com.prj.cursor.repository;
 
+import com.prj.cursor.dto.BoardSummary;
 import com.prj.cursor.entity.Board;
 import com.prj.cursor.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 게시판 데이터 접근 계층
@@ -201,28 +209,40 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
      * 
      * @param boardNo 게시글 번호
     * @param isActive 변경할 활성화 상태
+     * @return 변경된 행 수 (이미 같은 상태면 0)
      */
     @Modifying
-    @Query("UPDATE Board b SET b.isActive = :isActive WHERE b.boardNo = :boardNo")
-    void updateIsActive(@Param("boardNo") Long boardNo, @Param("isActive") boolean isActive);
+    @Query("UPDATE Board b SET b.isActive = :isActive WHERE b.boardNo = :boardNo AND b.isActive <> :isActive")
+    int updateIsActive(@Param("boardNo") Long boardNo, @Param("isActive") boolean isActive);
     
     /**
      * 게시글 비활성화
      * 
      * @param boardNo 게시글 번호
+     * @return 변경된 행 수 (이미 비활성이면 0)
      */
     @Modifying
-    @Query("UPDATE Board b SET b.isActive = false WHERE b.boardNo = :boardNo")
-    void deactivateBoard(@Param("boardNo") Long boardNo);
+    @Query("UPDATE Board b SET b.isActive = false WHERE b.boardNo = :boardNo AND b.isActive = true")
+    int deactivateBoard(@Param("boardNo") Long boardNo);
     
     /**
      * 게시글 활성화
      * 
      * @param boardNo 게시글 번호
+     * @return 변경된 행 수 (이미 활성이면 0)
      */
     @Modifying
-    @Query("UPDATE Board b SET b.isActive = true WHERE b.boardNo = :boardNo")
-    void activateBoard(@Param("boardNo") Long boardNo);
+    @Query("UPDATE Board b SET b.isActive = true WHERE b.boardNo = :boardNo AND b.isActive = false")
+    int activateBoard(@Param("boardNo") Long boardNo);
+    
+    /**
+     * 상태가 비어 있는 게시글을 ACTIVE로 채움 (빌더 기본값이 적용되지 않던 때 저장된 게시글)
+     * 
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE boards SET status = 'ACTIVE' WHERE status IS NULL", nativeQuery = true)
+    int fillMissingStatus();
     
     /**
      * 작성자의 게시글 수 조회
@@ -268,5 +288,228 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
      * @return 인기 게시글 목록
      */
     @Query("SELECT b FROM Board b WHERE b.isActive = :isActive ORDER BY b.viewCount DESC, b.createdAt DESC")
-    List<Board> findPopularBoards(@Param("isActive") boolean isActive, Pageable pageable);    
+    List<Board> findPopularBoards(@Param("isActive") boolean isActive, Pageable pageable);
+    
+    /**
+     * 목록 조회용 프로젝션 SELECT 절
+     * 
+     * 게시글과 작성자(users)를 한 번의 조인으로 읽어 {@link BoardSummary}를 바로 만듭니다.
+     * 작성자는 닉네임, 이메일, 권한 컬럼만 읽으며, 페이지 크기와 관계없이 쿼리 수가 일정합니다.
+     * 본문은 SUBSTRING으로 미리보기 길이 + 1자만 읽으므로 긴 TEXT 컬럼 전체를 전송하지 않습니다.
+     */
+    String BOARD_SUMMARY_SELECT =
+            "SELECT new com.prj.cursor.dto.BoardSummary(" +
+            "b.boardNo, b.title, SUBSTRING(b.content, 1, " + (BoardSummary.PREVIEW_LENGTH + 1) + "), b.category, " +
+            "a.userNo, a.nickname, a.email, a.userRole, " +
+            "b.viewCount, b.likeCount, b.commentCount, b.status, b.createdAt, b.updatedAt) " +
+            "FROM Board b JOIN b.author a ";
+    
+    /**
+     * 활성 게시글 목록 조회 (최신순, 작성자 조인 프로젝션)
+     * 
+     * Slice로 size + 1행만 읽어 다음 페이지 여부를 판단하며 COUNT 쿼리는 실행하지 않습니다.
+     * 전체 개수는 {@link BoardCounterRepository}의 카운터를 사용합니다.
+     * 
+     * @param pageable 페이징 정보
+     * @return 게시글 요약 슬라이스
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE b.isActive = true ORDER BY b.createdAt DESC")
+    Slice<BoardSummary> findBoardSummaries(Pageable pageable);
+    
+    /**
+     * 카테고리별 활성 게시글 조회 (최신순, 작성자 조인 프로젝션)
+     * 
+     * COUNT 쿼리 없이 Slice로 조회하며, 전체 개수는 카테고리 카운터를 사용합니다.
+     * 
+     * @param category 게시글 카테고리
+     * @param status 게시글 상태
+     * @param pageable 페이징 정보
+     * @return 게시글 요약 슬라이스
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE b.category = :category AND b.status = :status AND b.isActive = true " +
+           "ORDER BY b.createdAt DESC")
+    Slice<BoardSummary> findBoardSummariesByCategory(
+        @Param("category") String category,
+        @Param("status") Board.BoardStatus status,
+        Pageable pageable
+    );
+    
+    /**
+     * 제목 또는 내용 검색 (최신순, 작성자 조인 프로젝션)
+     * 
+     * @param keyword 검색 키워드
+     * @param pageable 페이징 정보
+     * @return 검색 결과 페이지
+     */
+    @Query(value = BOARD_SUMMARY_SELECT +
+                   "WHERE b.isActive = true AND " +
+                   "(LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                   "LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+                   "ORDER BY b.createdAt DESC",
+           countQuery = "SELECT COUNT(b) FROM Board b WHERE b.isActive = true AND " +
+                        "(LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<BoardSummary> searchBoardSummaries(@Param("keyword") String keyword, Pageable pageable);
+    
+    /**
+     * 조회수 기준 인기 게시글 조회 (작성자 조인 프로젝션)
+     * 
+     * @param pageable 페이징 정보
+     * @return 게시글 요약 페이지
+     */
+    @Query(value = BOARD_SUMMARY_SELECT +
+                   "WHERE b.isActive = true ORDER BY b.viewCount DESC, b.createdAt DESC",
+           countQuery = "SELECT COUNT(b) FROM Board b WHERE b.isActive = true")
+    Page<BoardSummary> findPopularBoardSummaries(Pageable pageable);
+    
+    /**
+     * 작성자별 활성 게시글 조회 (최신순, 작성자 조인 프로젝션)
+     * 
+     * @param userNo 작성자 번호
+     * @param pageable 페이징 정보
+     * @return 게시글 요약 페이지
+     */
+    @Query(value = BOARD_SUMMARY_SELECT +
+                   "WHERE a.userNo = :userNo AND b.isActive = true ORDER BY b.createdAt DESC",
+           countQuery = "SELECT COUNT(b) FROM Board b WHERE b.author.userNo = :userNo AND b.isActive = true")
+    Page<BoardSummary> findBoardSummariesByAuthor(@Param("userNo") Long userNo, Pageable pageable);
+    
+    /**
+     * 제목 또는 내용 검색 (COUNT 없는 Slice, size + 1행으로 다음 페이지 여부 판단)
+     * 
+     * @param keyword 검색 키워드
+     * @param pageable 페이징 정보
+     * @return 검색 결과 슬라이스
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE b.isActive = true AND " +
+           "(LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+           "ORDER BY b.createdAt DESC")
+    Slice<BoardSummary> searchBoardSummarySlice(@Param("keyword") String keyword, Pageable pageable);
+    
+    /**
+     * 조회수 기준 인기 게시글 조회 (COUNT 없는 Slice)
+     * 
+     * @param pageable 페이징 정보
+     * @return 게시글 요약 슬라이스
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE b.isActive = true ORDER BY b.viewCount DESC, b.createdAt DESC")
+    Slice<BoardSummary> findPopularBoardSummarySlice(Pageable pageable);
+    
+    /**
+     * 작성자별 활성 게시글 조회 (COUNT 없는 Slice)
+     * 
+     * @param userNo 작성자 번호
+     * @param pageable 페이징 정보
+     * @return 게시글 요약 슬라이스
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE a.userNo = :userNo AND b.isActive = true ORDER BY b.createdAt DESC")
+    Slice<BoardSummary> findBoardSummarySliceByAuthor(@Param("userNo") Long userNo, Pageable pageable);
+    
+    /**
+     * 게시글 번호 목록으로 활성 게시글 요약 조회 (검색 색인 결과용, 순서는 호출 측에서 맞춤)
+     * 
+     * @param boardNos 게시글 번호 목록
+     * @return 게시글 요약 목록
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE b.boardNo IN :boardNos AND b.isActive = true")
+    List<BoardSummary> findBoardSummariesByIds(@Param("boardNos") Collection<Long> boardNos);
+    
+    /**
+     * 검색 색인용 활성 게시글 스트리밍 조회 ([boardNo, title, content], 트랜잭션 안에서 사용하고 반드시 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b.boardNo, b.title, b.content FROM Board b WHERE b.isActive = true")
+    Stream<Object[]> streamActiveBoardTexts();
+    
+    /**
+     * 커서 이후의 활성 게시글 조회 (최신순, 키셋 페이지네이션)
+     * 
+     * (createdAt, boardNo)가 커서보다 앞서는 행만 인덱스에서 이어 읽으므로 OFFSET과 COUNT 쿼리가 없습니다.
+     * 
+     * @param createdAt 커서의 생성일시
+     * @param boardNo 커서의 게시글 번호
+     * @param pageable 조회할 행 수 (페이지 번호는 항상 0)
+     * @return 게시글 요약 목록
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE b.isActive = true " +
+           "AND b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.boardNo < :boardNo) " +
+           "ORDER BY b.createdAt DESC, b.boardNo DESC")
+    List<BoardSummary> findActiveBoardsBefore(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("boardNo") Long boardNo,
+        Pageable pageable
+    );
+    
+    /**
+     * 커서 이후의 카테고리별 활성 게시글 조회 (최신순, 키셋 페이지네이션)
+     * 
+     * @param category 게시글 카테고리
+     * @param status 게시글 상태
+     * @param createdAt 커서의 생성일시
+     * @param boardNo 커서의 게시글 번호
+     * @param pageable 조회할 행 수 (페이지 번호는 항상 0)
+     * @return 게시글 요약 목록
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE b.category = :category AND b.status = :status AND b.isActive = true " +
+           "AND b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.boardNo < :boardNo) " +
+           "ORDER BY b.createdAt DESC, b.boardNo DESC")
+    List<BoardSummary> findActiveBoardsByCategoryBefore(
+        @Param("category") String category,
+        @Param("status") Board.BoardStatus status,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("boardNo") Long boardNo,
+        Pageable pageable
+    );
+    
+    /**
+     * 커서 이후의 작성자별 활성 게시글 조회 (최신순, 키셋 페이지네이션)
+     * 
+     * @param userNo 작성자 번호
+     * @param createdAt 커서의 생성일시
+     * @param boardNo 커서의 게시글 번호
+     * @param pageable 조회할 행 수 (페이지 번호는 항상 0)
+     * @return 게시글 요약 목록
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE a.userNo = :userNo AND b.isActive = true " +
+           "AND b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.boardNo < :boardNo) " +
+           "ORDER BY b.createdAt DESC, b.boardNo DESC")
+    List<BoardSummary> findActiveBoardsByAuthorBefore(
+        @Param("userNo") Long userNo,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("boardNo") Long boardNo,
+        Pageable pageable
+    );
+    
+    /**
+     * 커서 이후의 인기 게시글 조회 (조회수순, 키셋 페이지네이션)
+     * 
+     * 조회 중에도 조회수가 바뀌므로 페이지 사이에 순위가 바뀐 게시글은 중복되거나 빠질 수 있습니다.
+     * 
+     * @param viewCount 커서의 조회수
+     * @param createdAt 커서의 생성일시
+     * @param boardNo 커서의 게시글 번호
+     * @param pageable 조회할 행 수 (페이지 번호는 항상 0)
+     * @return 게시글 요약 목록
+     */
+    @Query(BOARD_SUMMARY_SELECT +
+           "WHERE b.isActive = true AND b.viewCount <= :viewCount " +
+           "AND (b.viewCount < :viewCount OR b.createdAt < :createdAt " +
+           "OR (b.createdAt = :createdAt AND b.boardNo < :boardNo)) " +
+           "ORDER BY b.viewCount DESC, b.createdAt DESC, b.boardNo DESC")
+    List<BoardSummary> findPopularBoardsBefore(
+        @Param("viewCount") Long viewCount,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("boardNo") Long boardNo,
+        Pageable pageable
+    );
 } 
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.prj.cursor.repository;
+
+import com.prj.cursor.dto.RankingEntry;
+import com.prj.cursor.entity.GameBestScore;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface GameBestScoreRepository extends JpaRepository<GameBestScore, Long> {
+    
+    /**
+     * 게임별 랭킹 조회 (idx_game_best_scores_ranking 인덱스 순서 그대로 읽음, 순위는 호출 측에서 부여)
+     */
+    @Query("SELECT new com.prj.cursor.dto.RankingEntry(b.userId, b.nickname, b.score, b.achievedAt) " +
+           "FROM GameBestScore b WHERE b.gameType = :gameType ORDER BY b.score DESC, b.userId ASC")
+    List<RankingEntry> findRankings(@Param("gameType") String gameType, Pageable pageable);
+    
+    /**
+     * 전체 최고 점수 스트리밍 조회 ([gameType, userId, score], 트랜잭션 안에서 사용하고 반드시 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.gameType, b.userId, b.score FROM GameBestScore b")
+    Stream<Object[]> streamAllBestScores();
+}
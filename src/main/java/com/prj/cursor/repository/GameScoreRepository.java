@@ -1,14 +1,20 @@
 package com.prj.cursor.repository;
 
+import com.prj.cursor.dto.RankingEntry;
 import com.prj.cursor.entity.GameScore;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface GameScoreRepository extends JpaRepository<GameScore, Long> {
@@ -24,4 +30,33 @@ public interface GameScoreRepository extends JpaRepository<GameScore, Long> {
     
     @Query("SELECT gs FROM GameScore gs WHERE gs.gameType = :gameType ORDER BY gs.score DESC")
     List<GameScore> findTopByGameTypeOrderByScoreDesc(@Param("gameType") String gameType, org.springframework.data.domain.Pageable pageable);
+    
+    /**
+     * 기간 랭킹 조회 - 기간 내 사용자별 최고 점수 (순위는 호출 측에서 부여)
+     */
+    @Query("SELECT new com.prj.cursor.dto.RankingEntry(gs.userId, MAX(gs.nickname), MAX(gs.score), MAX(gs.createdAt)) " +
+           "FROM GameScore gs WHERE gs.gameType = :gameType AND gs.createdAt >= :since " +
+           "GROUP BY gs.userId ORDER BY MAX(gs.score) DESC, gs.userId ASC")
+    List<RankingEntry> findRankingsSince(@Param("gameType") String gameType, @Param("since") LocalDateTime since, Pageable pageable);
+    
+    /**
+     * 랭킹 재구성용 스트리밍 조회 - (userId, nickname, score) 행 (트랜잭션 안에서 사용하고 반드시 닫아야 함)
+     * 
+     * 엔티티 대신 필요한 컬럼만 읽으므로 영속성 컨텍스트에 쌓이지 않으며, 전진 전용 커서로 fetch size씩 가져옵니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT gs.userId, gs.nickname, gs.score FROM GameScore gs " +
+           "WHERE gs.gameType = :gameType AND gs.createdAt >= :since AND gs.userId IS NOT NULL")
+    Stream<Object[]> streamScoresSince(@Param("gameType") String gameType, @Param("since") LocalDateTime since);
+    
+    /**
+     * 기간 안에 점수 이력이 있는지 여부 (자동 재구성 전 확인용, (gameType, createdAt) 인덱스 사용)
+     */
+    boolean existsByGameTypeAndCreatedAtGreaterThanEqual(String gameType, LocalDateTime since);
+    
+    /**
+     * 점수 이력이 있는 게임 타입 목록
+     */
+    @Query("SELECT DISTINCT gs.gameType FROM GameScore gs")
+    List<String> findDistinctGameTypes();
 }
@@ -0,0 +1,125 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.entity.Board;
+import com.prj.cursor.repository.BoardCounterRepository;
+import com.prj.cursor.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+/**
+ * 게시글 수 카운터 관리
+ *
+ * 목록 화면의 전체 개수(전체, 카테고리별)를 board_counters에서 읽어 COUNT(*)를 생략합니다.
+ * 증감은 BoardService의 쓰기 트랜잭션에 참여하므로 게시글 변경과 함께 커밋되거나 롤백됩니다.
+ * 기동 시 boards 기준으로 다시 계산하므로, 장애 등으로 어긋난 값도 재시작하면 맞춰집니다 (행을 지우지 않는 UPSERT).
+ * 전체 카운터는 활성 게시글, 카테고리 카운터는 카테고리 목록과 같이 상태가 ACTIVE인 활성 게시글을 셉니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardCounterService {
+
+    private static final String TOTAL_KEY = "all";
+
+    private static final String CATEGORY_KEY_PREFIX = "category:";
+
+    private final BoardCounterRepository boardCounterRepository;
+
+    private final BoardRepository boardRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 활성 게시글 전체 수
+     */
+    public long getTotalCount() {
+        return boardCounterRepository.findCount(TOTAL_KEY).orElse(0L);
+    }
+
+    /**
+     * 카테고리별 활성 게시글 수
+     */
+    public long getCategoryCount(String category) {
+        return boardCounterRepository.findCount(CATEGORY_KEY_PREFIX + category).orElse(0L);
+    }
+
+    /**
+     * 게시글이 목록에 추가됨 (생성, 활성화)
+     */
+    @Transactional
+    public void added(Board board) {
+        boardCounterRepository.add(TOTAL_KEY, 1);
+        if (countsInCategory(board)) {
+            boardCounterRepository.add(CATEGORY_KEY_PREFIX + board.getCategory(), 1);
+        }
+    }
+
+    /**
+     * 게시글이 목록에서 빠짐 (삭제, 비활성화)
+     */
+    @Transactional
+    public void removed(Board board) {
+        boardCounterRepository.add(TOTAL_KEY, -1);
+        if (countsInCategory(board)) {
+            boardCounterRepository.add(CATEGORY_KEY_PREFIX + board.getCategory(), -1);
+        }
+    }
+
+    /**
+     * 활성 게시글의 카테고리가 바뀜 (board는 변경 후 상태)
+     */
+    @Transactional
+    public void moved(String fromCategory, Board board) {
+        String toCategory = board.getCategory();
+        if (Objects.equals(fromCategory, toCategory) || board.getStatus() != Board.BoardStatus.ACTIVE) {
+            return;
+        }
+        if (fromCategory != null) {
+            boardCounterRepository.add(CATEGORY_KEY_PREFIX + fromCategory, -1);
+        }
+        if (toCategory != null) {
+            boardCounterRepository.add(CATEGORY_KEY_PREFIX + toCategory, 1);
+        }
+    }
+
+    /**
+     * 카테고리 카운터에 포함되는 게시글인지 여부
+     *
+     * 카테고리 목록 조회, 재계산 쿼리(upsertCategoryCounts)와 같은 조건입니다 (활성 여부는 호출하는 쪽에서 판단).
+     */
+    static boolean countsInCategory(Board board) {
+        return board.getCategory() != null && board.getStatus() == Board.BoardStatus.ACTIVE;
+    }
+
+    /**
+     * 기동 후 boards 기준으로 카운터를 제자리에서 재계산 (한 트랜잭션)
+     *
+     * 다른 노드가 쓰기를 받는 중에 이 노드만 재시작할 수 있으므로 행을 비우고 다시 넣지 않고 UPSERT로 덮어씁니다.
+     * 재계산과 동시에 들어온 증감은 재계산 값에 덮일 수 있으며, 그 차이는 다음 재계산 때 맞춰집니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int filled = boardRepository.fillMissingStatus();
+                if (filled > 0) {
+                    log.info("상태가 비어 있던 게시글 {}건을 ACTIVE로 채웠습니다.", filled);
+                }
+                boardCounterRepository.upsertTotalCount();
+                boardCounterRepository.upsertCategoryCounts();
+                boardCounterRepository.resetEmptyCategoryCounts();
+            });
+            log.info("게시글 카운터 재계산 완료 - 전체: {}", getTotalCount());
+        } catch (Exception e) {
+            log.error("게시글 카운터 재계산 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.entity.Board;
+import com.prj.cursor.repository.BoardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 전문 검색 색인 (인메모리 역색인)
+ *
+ * 활성 게시글의 제목과 본문을 {@link BoardTextIndex}에 색인해, 검색 비용이 게시글 수가 아닌 일치하는 posting 길이에 비례하도록 합니다.
+ * 기동 후 백그라운드에서 DB로 채우며, 채우는 동안에는 {@link #search}가 빈 값을 반환해 기존 LIKE 검색을 사용하게 합니다.
+ *
+ * 게시글 생성/수정/삭제/비활성화/활성화는 BoardService가 호출하며, 트랜잭션 커밋 후에 색인에 반영됩니다.
+ * 재구성 중에 들어온 변경은 따로 기록했다가 새 색인에 다시 적용한 뒤 교체하므로 유실되지 않습니다.
+ * 다른 노드에서 변경된 게시글은 rebuild-interval(기본 5분)마다 전체 재구성으로 반영됩니다 (0이면 기동 시에만, 단일 노드 전용).
+ */
+@Component
+@Slf4j
+public class BoardSearchIndex {
+
+    private final BoardRepository boardRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final Duration rebuildInterval;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 현재 검색에 사용하는 색인 (lock으로 보호)
+     */
+    private BoardTextIndex index = new BoardTextIndex();
+
+    /**
+     * 재구성 중에 들어온 변경 (게시글 번호 → 색인할 내용, 제거면 null, 재구성 중이 아니면 null)
+     */
+    private Map<Long, BoardText> pending;
+
+    private volatile boolean ready;
+
+    private ScheduledExecutorService scheduler;
+
+    public BoardSearchIndex(
+            BoardRepository boardRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${board.search.index.enabled:true}") boolean enabled,
+            @Value("${board.search.index.rebuild-interval:5m}") Duration rebuildInterval) {
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    /**
+     * 기동 완료 후 백그라운드에서 색인 구성 (설정 시 주기적으로 재구성)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("게시글 검색 색인 비활성화, LIKE 검색을 사용합니다.");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (rebuildInterval.isZero() || rebuildInterval.isNegative()) {
+            scheduler.execute(this::rebuild);
+        } else {
+            scheduler.scheduleWithFixedDelay(this::rebuild, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 활성 게시글 전체로 새 색인을 만들어 교체
+     */
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pending = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        BoardTextIndex rebuilt = new BoardTextIndex();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Object[]> boards = boardRepository.streamActiveBoardTexts()) {
+                    for (Object[] row : (Iterable<Object[]>) boards::iterator) {
+                        rebuilt.put(((Number) row[0]).longValue(), (String) row[1], (String) row[2]);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("게시글 검색 색인 구성 중 오류 발생, 기존 색인을 유지합니다.", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach((boardNo, text) -> apply(rebuilt, boardNo, text));
+            pending = null;
+            index = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게시글 검색 색인 구성 완료: boards={}, elapsedMs={}",
+                rebuilt.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 게시글 색인 (이미 있으면 교체, 현재 트랜잭션이 커밋된 후 반영)
+     */
+    public void index(Board board) {
+        long boardNo = board.getBoardNo();
+        BoardText text = new BoardText(board.getTitle(), board.getContent());
+        afterCommit(() -> update(boardNo, text));
+    }
+
+    /**
+     * 게시글 색인 제거 (현재 트랜잭션이 커밋된 후 반영)
+     */
+    public void remove(Long boardNo) {
+        afterCommit(() -> update(boardNo, null));
+    }
+
+    /**
+     * 색인으로 검색
+     *
+     * @param offset 0부터 시작하는 결과 오프셋
+     * @param limit 조회할 게시글 수
+     * @return 검색 결과, 색인이 준비되지 않았거나 색인으로 처리할 수 없는 검색어(한 글자 단어 등)면 빈 값
+     */
+    public Optional<SearchHits> search(String keyword, int offset, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        List<String> tokens = BoardTextIndex.queryTokens(keyword);
+        if (tokens == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(index.search(tokens, offset, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 준비되어 검색에 사용되는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void update(long boardNo, BoardText text) {
+        lock.writeLock().lock();
+        try {
+            apply(index, boardNo, text);
+            if (pending != null) {
+                pending.put(boardNo, text);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(BoardTextIndex target, long boardNo, BoardText text) {
+        if (text != null) {
+            target.put(boardNo, text.title, text.content);
+        } else {
+            target.remove(boardNo);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class BoardText {
+        private final String title;
+        private final String content;
+
+        private BoardText(String title, String content) {
+            this.title = title;
+            this.content = content;
+        }
+    }
+
+    /**
+     * 검색 결과 (요청 구간의 게시글 번호를 관련도 순으로, 전체 일치 수)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchHits {
+
+        private final List<Long> boardNos;
+
+        private final long total;
+    }
+}
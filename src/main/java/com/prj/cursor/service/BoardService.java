@@ -1,5 +1,8 @@
 package com.prj.cursor.service;
 
+import com.prj.cursor.dto.BoardCursor;
+import com.prj.cursor.dto.BoardSummary;
+import com.prj.cursor.dto.CursorPage;
 import com.prj.cursor.entity.Board;
 import com.prj.cursor.entity.User;
 import com.prj.cursor.repository.BoardRepository;
@@ -8,10 +11,20 @@ import com.prj.cursor.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 게시판 비즈니스 로직 서비스
  * 
@@ -39,9 +52,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class BoardService {
 
+    /**
+     * 커서 조회 한 번에 반환하는 최대 게시글 수
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final BoardCounterService boardCounterService;
+    private final BoardSearchIndex boardSearchIndex;
 
     /**
      * 게시글 생성
@@ -77,6 +97,8 @@ public class BoardService {
                 .build();
         
         Board savedBoard = boardRepository.save(board);
+        boardCounterService.added(savedBoard);
+        boardSearchIndex.index(savedBoard);
         log.info("게시글 생성 완료 - 게시글 번호: {}", savedBoard.getBoardNo());
         
         return savedBoard;
@@ -105,17 +127,18 @@ public class BoardService {
      * 게시글 목록 조회
      * 
      * 활성 상태이면서 활성화된 모든 게시글을 페이징하여 조회합니다.
-     * 최신 게시글이 먼저 표시됩니다.
+     * 최신 게시글이 먼저 표시됩니다. 작성자 정보는 조인으로 함께 읽습니다.
      * 
      * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * @return 게시글 요약 페이지
      */
-    public Page<Board> getBoards(Pageable pageable) {
+    public Page<BoardSummary> getBoards(Pageable pageable) {
         log.info("게시글 목록 조회 요청 - 페이지: {}, 크기: {}", 
                 pageable.getPageNumber(), pageable.getPageSize());
         
-        Page<Board> boards = boardRepository.findByIsActiveOrderByCreatedAtDesc(
-                true, pageable);
+        // 목록은 COUNT 없이 Slice로, 전체 개수는 카운터에서 읽음
+        Slice<BoardSummary> slice = boardRepository.findBoardSummaries(pageable);
+        Page<BoardSummary> boards = toPage(slice, boardCounterService.getTotalCount());
         
         log.info("게시글 목록 조회 완료 - 총 개수: {}", boards.getTotalElements());
         return boards;
@@ -128,13 +151,14 @@ public class BoardService {
      * 
      * @param category 게시글 카테고리
      * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * @return 게시글 요약 페이지
      */
-    public Page<Board> getBoardsByCategory(String category, Pageable pageable) {
+    public Page<BoardSummary> getBoardsByCategory(String category, Pageable pageable) {
         log.info("카테고리별 게시글 조회 요청 - 카테고리: {}", category);
         
-        Page<Board> boards = boardRepository.findByCategoryAndStatusAndIsActiveOrderByCreatedAtDesc(
-                category, Board.BoardStatus.ACTIVE, true, pageable);
+        Slice<BoardSummary> slice = boardRepository.findBoardSummariesByCategory(
+                category, Board.BoardStatus.ACTIVE, pageable);
+        Page<BoardSummary> boards = toPage(slice, boardCounterService.getCategoryCount(category));
         
         log.info("카테고리별 게시글 조회 완료 - 카테고리: {}, 개수: {}", 
                 category, boards.getTotalElements());
@@ -144,18 +168,20 @@ public class BoardService {
     /**
      * 게시글 검색
      * 
-     * 제목 또는 내용에 검색어가 포함된 게시글을 조회합니다.
-     * 대소문자를 구분하지 않습니다.
+     * 제목 또는 내용에 검색어가 포함된 게시글을 관련도 순으로 조회합니다.
+     * 대소문자를 구분하지 않습니다. 검색 색인이 준비되지 않았거나 한 글자 단어가 포함된 검색어는
+     * 기존 LIKE 검색(최신순)으로 처리합니다.
      * 
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
      * @return 검색 결과 페이지
      */
-    public Page<Board> searchBoards(String keyword, Pageable pageable) {
+    public Page<BoardSummary> searchBoards(String keyword, Pageable pageable) {
         log.info("게시글 검색 요청 - 키워드: {}", keyword);
         
-        Page<Board> boards = boardRepository.findByTitleContainingOrContentContainingAndIsActive(
-                keyword, keyword, true, pageable);
+        Page<BoardSummary> boards = boardSearchIndex.search(keyword, offsetOf(pageable), pageable.getPageSize())
+                .map(hits -> toSearchPage(hits, pageable))
+                .orElseGet(() -> boardRepository.searchBoardSummaries(keyword, pageable));
         
         log.info("게시글 검색 완료 - 키워드: {}, 결과 개수: {}", 
                 keyword, boards.getTotalElements());
@@ -181,9 +207,16 @@ public class BoardService {
         Board board = boardRepository.findById(boardNo)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
         
-        // 게시글 정보 업데이트
+        // 게시글 정보 업데이트 (활성 게시글이면 카테고리 카운터 이동)
+        String previousCategory = board.getCategory();
         board.updateBoard(title, content, category);
+        if (board.isActive()) {
+            boardCounterService.moved(previousCategory, board);
+        }
         Board updatedBoard = boardRepository.save(board);
+        if (updatedBoard.isActive()) {
+            boardSearchIndex.index(updatedBoard);
+        }
         
         log.info("게시글 수정 완료 - 게시글 번호: {}", boardNo);
         return updatedBoard;
@@ -202,10 +235,14 @@ public class BoardService {
     public void deleteBoard(Long boardNo) {
         log.info("게시글 삭제 요청 - 게시글 번호: {}", boardNo);
         
-        boardRepository.findById(boardNo)
+        Board board = boardRepository.findById(boardNo)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
         
-        boardRepository.updateIsActive(boardNo, false);
+        // 실제로 상태가 바뀐 경우에만 카운터 감소 (중복 요청 대비)
+        if (boardRepository.updateIsActive(boardNo, false) > 0) {
+            boardCounterService.removed(board);
+        }
+        boardSearchIndex.remove(boardNo);
         log.info("게시글 삭제 완료 - 게시글 번호: {}", boardNo);
     }
     
@@ -236,8 +273,11 @@ public class BoardService {
             throw new RuntimeException("게시글을 비활성화할 권한이 없습니다.");
         }
         
-        // 게시글 비활성화
-        boardRepository.deactivateBoard(boardNo);
+        // 게시글 비활성화 (실제로 상태가 바뀐 경우에만 카운터 감소)
+        if (boardRepository.deactivateBoard(boardNo) > 0) {
+            boardCounterService.removed(board);
+        }
+        boardSearchIndex.remove(boardNo);
         
         // 관련 댓글들 비활성화
         commentRepository.deactivateAllByBoardNo(boardNo);
@@ -272,8 +312,11 @@ public class BoardService {
             throw new RuntimeException("게시글을 활성화할 권한이 없습니다.");
         }
         
-        // 게시글 활성화
-        boardRepository.activateBoard(boardNo);
+        // 게시글 활성화 (실제로 상태가 바뀐 경우에만 카운터 증가)
+        if (boardRepository.activateBoard(boardNo) > 0) {
+            boardCounterService.added(board);
+            boardSearchIndex.index(board);
+        }
         
         // 관련 댓글들 활성화
         commentRepository.activateAllByBoardNo(boardNo);
@@ -352,13 +395,12 @@ public class BoardService {
      * 조회수 기준으로 인기 게시글을 조회합니다.
      * 
      * @param pageable 페이징 정보
-     * @return 인기 게시글 페이지
+     * @return 인기 게시글 요약 페이지
      */
-    public Page<Board> getPopularBoards(Pageable pageable) {
+    public Page<BoardSummary> getPopularBoards(Pageable pageable) {
         log.info("인기 게시글 조회 요청");
         
-        Page<Board> boards = boardRepository.findByIsActiveOrderByViewCountDescCreatedAtDesc(
-                true, pageable);
+        Page<BoardSummary> boards = boardRepository.findPopularBoardSummaries(pageable);
         
         log.info("인기 게시글 조회 완료 - 개수: {}", boards.getTotalElements());
         return boards;
@@ -371,23 +413,221 @@ public class BoardService {
      * 
      * @param userNo 사용자 번호
      * @param pageable 페이징 정보
-     * @return 작성자별 게시글 페이지
+     * @return 작성자별 게시글 요약 페이지
      * @throws IllegalArgumentException 사용자를 찾을 수 없는 경우
      */
-    public Page<Board> getBoardsByAuthor(Long userNo, Pageable pageable) {
+    public Page<BoardSummary> getBoardsByAuthor(Long userNo, Pageable pageable) {
         log.info("작성자별 게시글 조회 요청 - 사용자 번호: {}", userNo);
         
         User author = userRepository.findById(userNo)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
-        Page<Board> boards = boardRepository.findByAuthorAndIsActiveOrderByCreatedAtDesc(
-                author, true, pageable);
+        Page<BoardSummary> boards = boardRepository.findBoardSummariesByAuthor(author.getUserNo(), pageable);
         
         log.info("작성자별 게시글 조회 완료 - 사용자: {}, 개수: {}", 
                 author.getNickname(), boards.getTotalElements());
         return boards;
     }
 
+    /**
+     * 게시글 검색 (COUNT 없는 Slice)
+     * 
+     * 검색 색인을 사용할 수 없어 LIKE '%키워드%' 전체 스캔으로 처리할 때
+     * 같은 조건의 COUNT를 한 번 더 실행하지 않도록 size + 1행만 읽어 다음 페이지 여부만 판단합니다.
+     * 
+     * @param keyword 검색 키워드
+     * @param pageable 페이징 정보
+     * @return 검색 결과 슬라이스
+     */
+    public Slice<BoardSummary> searchBoardSlice(String keyword, Pageable pageable) {
+        log.info("게시글 검색(슬라이스) 요청 - 키워드: {}", keyword);
+        
+        Slice<BoardSummary> boards = boardSearchIndex.search(keyword, offsetOf(pageable), pageable.getPageSize())
+                .<Slice<BoardSummary>>map(hits -> new SliceImpl<>(loadSearchHits(hits), pageable,
+                        pageable.getOffset() + pageable.getPageSize() < hits.getTotal()))
+                .orElseGet(() -> boardRepository.searchBoardSummarySlice(keyword, pageable));
+        
+        log.info("게시글 검색(슬라이스) 완료 - 키워드: {}, 결과 개수: {}, 다음 페이지: {}", 
+                keyword, boards.getNumberOfElements(), boards.hasNext());
+        return boards;
+    }
+
+    /**
+     * 인기 게시글 조회 (COUNT 없는 Slice)
+     * 
+     * @param pageable 페이징 정보
+     * @return 인기 게시글 요약 슬라이스
+     */
+    public Slice<BoardSummary> getPopularBoardSlice(Pageable pageable) {
+        log.info("인기 게시글(슬라이스) 조회 요청");
+        return boardRepository.findPopularBoardSummarySlice(pageable);
+    }
+
+    /**
+     * 작성자별 게시글 조회 (COUNT 없는 Slice)
+     * 
+     * @param userNo 사용자 번호
+     * @param pageable 페이징 정보
+     * @return 작성자별 게시글 요약 슬라이스
+     * @throws IllegalArgumentException 사용자를 찾을 수 없는 경우
+     */
+    public Slice<BoardSummary> getBoardSliceByAuthor(Long userNo, Pageable pageable) {
+        log.info("작성자별 게시글(슬라이스) 조회 요청 - 사용자 번호: {}", userNo);
+        
+        if (!userRepository.existsById(userNo)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        return boardRepository.findBoardSummarySliceByAuthor(userNo, pageable);
+    }
+
+    /**
+     * 검색 색인 결과의 게시글 요약을 관련도 순서대로 조회
+     * 
+     * 색인 반영 전에 비활성화된 게시글은 제외됩니다.
+     */
+    private List<BoardSummary> loadSearchHits(BoardSearchIndex.SearchHits hits) {
+        if (hits.getBoardNos().isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BoardSummary> boards = boardRepository.findBoardSummariesByIds(hits.getBoardNos()).stream()
+                .collect(Collectors.toMap(BoardSummary::getBoardNo, Function.identity()));
+        return hits.getBoardNos().stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 검색 색인 결과로 Page 생성
+     * 
+     * 색인에는 남아 있지만 DB에서 빠진 게시글은 목록과 전체 개수 모두에서 제외합니다.
+     * 다른 페이지에서 빠질 게시글은 알 수 없으므로, 색인이 다시 구성되기 전까지는 그만큼 크게 보고될 수 있습니다.
+     */
+    private Page<BoardSummary> toSearchPage(BoardSearchIndex.SearchHits hits, Pageable pageable) {
+        List<BoardSummary> content = loadSearchHits(hits);
+        long dropped = hits.getBoardNos().size() - content.size();
+        long total = Math.max(pageable.getOffset() + content.size(), hits.getTotal() - dropped);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private int offsetOf(Pageable pageable) {
+        return (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Slice와 카운터 값으로 Page 생성
+     * 
+     * 카운터가 잠시 어긋나더라도 실제로 읽은 행과 다음 페이지 여부보다 작게 보고하지 않습니다.
+     */
+    private Page<BoardSummary> toPage(Slice<BoardSummary> slice, long counted) {
+        Pageable pageable = slice.getPageable();
+        long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new PageImpl<>(slice.getContent(), pageable, Math.max(counted, seen));
+    }
+
+    /**
+     * 게시글 목록 커서 조회 (최신순)
+     * 
+     * 커서 다음의 게시글을 size개까지 조회합니다. OFFSET과 전체 개수 조회가 없어
+     * 몇 번째 페이지든 첫 페이지와 같은 비용으로 조회됩니다.
+     * 
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 게시글 커서 페이지
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public CursorPage<BoardSummary> getBoardsByCursor(String cursor, int size) {
+        BoardCursor after = BoardCursor.decode(BoardCursor.Order.LATEST, cursor);
+        int limit = cursorPageSize(size);
+        
+        List<BoardSummary> boards = boardRepository.findActiveBoardsBefore(
+                after.getCreatedAt(), after.getBoardNo(), PageRequest.of(0, limit + 1));
+        return toCursorPage(boards, limit, BoardCursor.Order.LATEST);
+    }
+    
+    /**
+     * 카테고리별 게시글 커서 조회 (최신순)
+     * 
+     * @param category 게시글 카테고리
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 게시글 커서 페이지
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public CursorPage<BoardSummary> getBoardsByCategoryAndCursor(String category, String cursor, int size) {
+        BoardCursor after = BoardCursor.decode(BoardCursor.Order.LATEST, cursor);
+        int limit = cursorPageSize(size);
+        
+        List<BoardSummary> boards = boardRepository.findActiveBoardsByCategoryBefore(
+                category, Board.BoardStatus.ACTIVE, after.getCreatedAt(), after.getBoardNo(), PageRequest.of(0, limit + 1));
+        return toCursorPage(boards, limit, BoardCursor.Order.LATEST);
+    }
+    
+    /**
+     * 인기 게시글 커서 조회 (조회수순)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 게시글 커서 페이지
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public CursorPage<BoardSummary> getPopularBoardsByCursor(String cursor, int size) {
+        BoardCursor after = BoardCursor.decode(BoardCursor.Order.POPULAR, cursor);
+        int limit = cursorPageSize(size);
+        
+        List<BoardSummary> boards = boardRepository.findPopularBoardsBefore(
+                after.getViewCount(), after.getCreatedAt(), after.getBoardNo(), PageRequest.of(0, limit + 1));
+        return toCursorPage(boards, limit, BoardCursor.Order.POPULAR);
+    }
+    
+    /**
+     * 작성자별 게시글 커서 조회 (최신순)
+     * 
+     * 사용자 존재 여부는 첫 페이지에서만 확인합니다.
+     * 
+     * @param userNo 사용자 번호
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 게시글 커서 페이지
+     * @throws IllegalArgumentException 사용자를 찾을 수 없거나 커서 형식이 잘못된 경우
+     */
+    public CursorPage<BoardSummary> getBoardsByAuthorAndCursor(Long userNo, String cursor, int size) {
+        BoardCursor after = BoardCursor.decode(BoardCursor.Order.LATEST, cursor);
+        if ((cursor == null || cursor.isBlank()) && !userRepository.existsById(userNo)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        int limit = cursorPageSize(size);
+        
+        List<BoardSummary> boards = boardRepository.findActiveBoardsByAuthorBefore(
+                userNo, after.getCreatedAt(), after.getBoardNo(), PageRequest.of(0, limit + 1));
+        return toCursorPage(boards, limit, BoardCursor.Order.LATEST);
+    }
+    
+    /**
+     * 페이지 크기를 1 ~ MAX_CURSOR_PAGE_SIZE로 제한
+     */
+    private int cursorPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    }
+    
+    /**
+     * size + 1개를 조회한 결과로 다음 페이지 여부와 커서 결정
+     */
+    private CursorPage<BoardSummary> toCursorPage(List<BoardSummary> boards, int size, BoardCursor.Order order) {
+        boolean hasNext = boards.size() > size;
+        List<BoardSummary> content = hasNext ? boards.subList(0, size) : boards;
+        String nextCursor = hasNext
+                ? BoardCursor.after(order, content.get(content.size() - 1)).encode()
+                : null;
+        
+        return CursorPage.<BoardSummary>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * 게시글 통계 조회
      * 
@@ -398,9 +638,10 @@ public class BoardService {
     public BoardStatistics getBoardStatistics() {
         log.info("게시글 통계 조회 요청");
         
-        long totalBoards = boardRepository.countByIsActive(true);
-        long generalBoards = boardRepository.countByCategoryAndIsActive("일반", true);
-        long noticeBoards = boardRepository.countByCategoryAndIsActive("공지", true);
+        // COUNT 쿼리 대신 게시글 카운터 사용
+        long totalBoards = boardCounterService.getTotalCount();
+        long generalBoards = boardCounterService.getCategoryCount("일반");
+        long noticeBoards = boardCounterService.getCategoryCount("공지");
         
         BoardStatistics statistics = BoardStatistics.builder()
                 .totalBoards(totalBoards)
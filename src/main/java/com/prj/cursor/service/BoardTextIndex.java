@@ -0,0 +1,290 @@
+package com.prj.cursor.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 게시글 제목/본문 역색인 (bigram)
+ *
+ * 글자(문자·숫자)가 이어진 구간마다 인접한 두 글자를 토큰으로 색인하므로, 띄어쓰기나 조사와 관계없이
+ * 한글 검색어가 본문의 일부와 일치합니다. 대소문자와 전각/반각은 NFKC 정규화 후 소문자로 맞춥니다.
+ *
+ * 토큰별 게시글 목록(posting)은 게시글 번호 순으로 정렬된 기본형 배열이며, 가중치는 제목 등장 × TITLE_WEIGHT + 본문 등장입니다.
+ * 검색은 검색어의 모든 토큰을 포함하는 게시글을 가장 짧은 posting부터 교집합으로 찾고 BM25로 점수를 매깁니다.
+ *
+ * 스레드 안전하지 않습니다. 동기화는 {@link BoardSearchIndex}가 담당합니다.
+ */
+final class BoardTextIndex {
+
+    /**
+     * 제목에 나온 토큰의 가중치 (본문 1회 = 1)
+     */
+    static final int TITLE_WEIGHT = 3;
+
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    private long totalLength;
+
+    int size() {
+        return documents.size();
+    }
+
+    /**
+     * 게시글 색인 (이미 있으면 교체)
+     */
+    void put(long boardNo, String title, String content) {
+        remove(boardNo);
+
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(title, TITLE_WEIGHT, weights);
+        tokenize(content, 1, weights);
+        if (weights.isEmpty()) {
+            return;
+        }
+
+        String[] tokens = new String[weights.size()];
+        int length = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new Postings()).put(boardNo, entry.getValue());
+            tokens[i++] = entry.getKey();
+            length += entry.getValue();
+        }
+        documents.put(boardNo, new Document(tokens, length));
+        totalLength += length;
+    }
+
+    /**
+     * 게시글 색인 제거 (없으면 무시)
+     */
+    void remove(long boardNo) {
+        Document document = documents.remove(boardNo);
+        if (document == null) {
+            return;
+        }
+        for (String token : document.tokens) {
+            Postings list = postings.get(token);
+            if (list != null && list.remove(boardNo) && list.size == 0) {
+                postings.remove(token);
+            }
+        }
+        totalLength -= document.length;
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 게시글을 점수 내림차순(같으면 최신 게시글 먼저)으로 조회
+     *
+     * @param tokens {@link #queryTokens(String)}로 만든 검색 토큰
+     * @param offset 0부터 시작하는 결과 오프셋
+     * @return 요청 구간의 게시글 번호와 전체 일치 수
+     */
+    BoardSearchIndex.SearchHits search(List<String> tokens, int offset, int limit) {
+        Postings[] lists = new Postings[tokens.size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(tokens.get(i));
+            if (lists[i] == null) {
+                return new BoardSearchIndex.SearchHits(List.of(), 0);
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+        int documentCount = documents.size();
+        double averageLength = (double) totalLength / documentCount;
+        double[] idfs = new double[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            idfs[i] = Math.log(1 + (documentCount - lists[i].size + 0.5) / (lists[i].size + 0.5));
+        }
+
+        // 상위 offset + limit개만 최소 힙으로 유지
+        int keep = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.reverseOrder());
+        int total = 0;
+
+        Postings rarest = lists[0];
+        for (int n = 0; n < rarest.size; n++) {
+            long boardNo = rarest.boardNos[n];
+            double norm = K1 * (1 - B + B * documents.get(boardNo).length / averageLength);
+            double score = 0;
+            boolean matched = true;
+            for (int i = 0; i < lists.length; i++) {
+                int weight = i == 0 ? rarest.weights[n] : lists[i].weightOf(boardNo);
+                if (weight == 0) {
+                    matched = false;
+                    break;
+                }
+                score += idfs[i] * weight * (K1 + 1) / (weight + norm);
+            }
+            if (!matched) {
+                continue;
+            }
+            total++;
+            if (keep > 0) {
+                Hit hit = new Hit(boardNo, score);
+                if (top.size() < keep) {
+                    top.add(hit);
+                } else if (hit.compareTo(top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(null);
+        List<Long> boardNos = new ArrayList<>(Math.max(ranked.size() - offset, 0));
+        for (int i = offset; i < ranked.size(); i++) {
+            boardNos.add(ranked.get(i).boardNo);
+        }
+        return new BoardSearchIndex.SearchHits(boardNos, total);
+    }
+
+    /**
+     * 검색어를 검색 토큰으로 변환
+     *
+     * @return 중복 없는 bigram 목록, 색인으로 처리할 수 없으면 null (토큰이 없거나 한 글자 단어가 포함된 경우)
+     */
+    static List<String> queryTokens(String query) {
+        if (query == null) {
+            return null;
+        }
+        // 한 글자 단어는 색인되지 않으므로 LIKE 검색으로 처리해야 함
+        String normalized = normalize(query);
+        int wordLength = 0;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                wordLength++;
+            } else if (wordLength == 1) {
+                return null;
+            } else {
+                wordLength = 0;
+            }
+        }
+        if (wordLength == 1) {
+            return null;
+        }
+
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        tokenize(query, 1, weights);
+        return weights.isEmpty() ? null : new ArrayList<>(weights.keySet());
+    }
+
+    /**
+     * 글자 구간마다 인접한 두 글자를 토큰으로 세어 weights에 더함 (한 글자 단어는 색인하지 않음)
+     */
+    static void tokenize(String text, int weight, Map<String, Integer> weights) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = normalize(text);
+        int previous = -1;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                previous = -1;
+                continue;
+            }
+            if (previous != -1) {
+                String token = new StringBuilder(4).appendCodePoint(previous).appendCodePoint(codePoint).toString();
+                weights.merge(token, weight, Integer::sum);
+            }
+            previous = codePoint;
+        }
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인된 게시글 (제거 시 posting을 찾기 위한 토큰 목록과 BM25 길이 보정용 가중치 합)
+     */
+    private static final class Document {
+        private final String[] tokens;
+        private final int length;
+
+        private Document(String[] tokens, int length) {
+            this.tokens = tokens;
+            this.length = length;
+        }
+    }
+
+    /**
+     * 토큰 하나의 게시글 번호(오름차순)와 가중치
+     */
+    private static final class Postings {
+        private long[] boardNos = new long[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        private void put(long boardNo, int weight) {
+            int index = Arrays.binarySearch(boardNos, 0, size, boardNo);
+            if (index >= 0) {
+                weights[index] = weight;
+                return;
+            }
+            index = -index - 1;
+            if (size == boardNos.length) {
+                boardNos = Arrays.copyOf(boardNos, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            // 새 게시글은 번호가 가장 크므로 대부분 끝에 추가되어 복사가 없음
+            System.arraycopy(boardNos, index, boardNos, index + 1, size - index);
+            System.arraycopy(weights, index, weights, index + 1, size - index);
+            boardNos[index] = boardNo;
+            weights[index] = weight;
+            size++;
+        }
+
+        private boolean remove(long boardNo) {
+            int index = Arrays.binarySearch(boardNos, 0, size, boardNo);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(boardNos, index + 1, boardNos, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private int weightOf(long boardNo) {
+            int index = Arrays.binarySearch(boardNos, 0, size, boardNo);
+            return index >= 0 ? weights[index] : 0;
+        }
+    }
+
+    /**
+     * 점수 내림차순, 같은 점수는 게시글 번호 내림차순 (작을수록 앞 순위)
+     */
+    private static final class Hit implements Comparable<Hit> {
+        private final long boardNo;
+        private final double score;
+
+        private Hit(long boardNo, double score) {
+            this.boardNo = boardNo;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Hit other) {
+            int c = Double.compare(other.score, score);
+            return c != 0 ? c : Long.compare(other.boardNo, boardNo);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.ScoreEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * game_best_scores 롤업 갱신
+ *
+ * 점수 이력 배치를 (gameType, userId)별 최고 점수로 합친 뒤 MariaDB UPSERT 한 번의 배치로 반영합니다.
+ * 행을 (gameType, userId) 순서로 정렬해 보내므로 여러 writer가 같은 행을 갱신해도 잠금 순서가 같습니다.
+ * 닉네임은 항상 마지막 제출값으로, 기록 시각은 최고 점수가 갱신될 때만 바뀝니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameBestScoreRollup {
+
+    /**
+     * ON DUPLICATE KEY UPDATE는 왼쪽부터 적용되므로 achieved_at을 score보다 먼저 비교해야 합니다.
+     * IF() 대신 CASE를 써서 H2(MariaDB 모드)에서도 같은 SQL이 동작합니다.
+     */
+    private static final String UPSERT_SQL =
+            "INSERT INTO game_best_scores (user_id, game_type, nickname, score, achieved_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "achieved_at = CASE WHEN VALUES(score) > score THEN VALUES(achieved_at) ELSE achieved_at END, " +
+            "score = GREATEST(score, VALUES(score)), " +
+            "nickname = VALUES(nickname), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String BACKFILL_SQL =
+            "INSERT INTO game_best_scores (user_id, game_type, nickname, score, achieved_at, updated_at) " +
+            "SELECT gs.user_id, gs.game_type, MAX(gs.nickname), MAX(gs.score), MAX(gs.created_at), NOW() " +
+            "FROM game_scores gs GROUP BY gs.user_id, gs.game_type " +
+            "ON DUPLICATE KEY UPDATE score = GREATEST(score, VALUES(score))";
+
+    private static final String MIGRATION_SQL =
+            "INSERT INTO data_migrations (name, applied_at) VALUES (?, ?)";
+
+    /**
+     * game_scores → game_best_scores 초기 적재 완료 기록 이름 (data_migrations)
+     */
+    static final String BACKFILL_MIGRATION = "game_best_scores_backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * 점수 이력 배치를 롤업에 반영 (호출 측 트랜잭션에 참여)
+     */
+    public void upsert(List<ScoreEvent> scoreEvents) {
+        List<ScoreEvent> bestScores = coalesce(scoreEvents);
+        if (bestScores.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ScoreEvent scoreEvent = bestScores.get(i);
+                long playedAt = scoreEvent.getTimestamp() != null
+                        ? scoreEvent.getTimestamp() : now.getTime();
+
+                ps.setLong(1, scoreEvent.getUserId());
+                ps.setString(2, scoreEvent.getGameType());
+                ps.setString(3, scoreEvent.getNickname());
+                ps.setInt(4, scoreEvent.getScore());
+                ps.setTimestamp(5, new Timestamp(playedAt));
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return bestScores.size();
+            }
+        });
+        log.debug("최고 점수 롤업 반영 완료: rows={}, events={}", bestScores.size(), scoreEvents.size());
+    }
+
+    /**
+     * game_scores에서 롤업을 한 번 채움 (롤업 도입 이전 데이터용)
+     *
+     * 완료 여부는 롤업이 비었는지가 아니라 data_migrations의 기록으로 판단합니다.
+     * (GameScoreWriter가 기동 직후부터 롤업에 쓰므로 테이블이 비어 있지 않아도 적재 전일 수 있음)
+     * 적재는 최고 점수를 GREATEST로 합치므로 이미 반영된 새 점수와 섞여도 결과가 같습니다.
+     *
+     * 닉네임과 기록 시각은 근사값이며, 이후 제출부터 정확한 값으로 갱신됩니다.
+     * 인메모리 랭킹이 롤업을 읽기 전에 끝나도록 먼저 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void backfillOnce() {
+        try {
+            Integer rows = transactionOperations.execute(status -> {
+                try {
+                    jdbcTemplate.update(MIGRATION_SQL, BACKFILL_MIGRATION, new Timestamp(System.currentTimeMillis()));
+                } catch (DuplicateKeyException e) {
+                    // 이미 적재됨 (또는 다른 노드가 먼저 적재함)
+                    return null;
+                }
+                return jdbcTemplate.update(BACKFILL_SQL);
+            });
+            if (rows != null) {
+                log.info("최고 점수 롤업 초기 적재 완료: rows={}", rows);
+            }
+        } catch (Exception e) {
+            log.error("최고 점수 롤업 초기 적재 중 오류 발생, 다음 기동 시 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * (gameType, userId)별 최고 점수만 남기고 잠금 순서대로 정렬
+     */
+    static List<ScoreEvent> coalesce(List<ScoreEvent> scoreEvents) {
+        Map<String, ScoreEvent> best = new LinkedHashMap<>();
+        Map<String, String> latestNicknames = new LinkedHashMap<>();
+
+        for (ScoreEvent event : scoreEvents) {
+            if (event.getUserId() == null || event.getGameType() == null || event.getScore() == null) {
+                continue;
+            }
+            String key = event.getGameType() + ":" + event.getUserId();
+            latestNicknames.put(key, event.getNickname());
+            best.merge(key, event, (current, candidate) -> candidate.getScore() > current.getScore() ? candidate : current);
+        }
+
+        List<ScoreEvent> result = new ArrayList<>(best.size());
+        best.forEach((key, event) -> result.add(ScoreEvent.builder()
+                .userId(event.getUserId())
+                .gameType(event.getGameType())
+                .nickname(latestNicknames.get(key))
+                .score(event.getScore())
+                .timestamp(event.getTimestamp())
+                .build()));
+        result.sort(Comparator.comparing(ScoreEvent::getGameType).thenComparing(ScoreEvent::getUserId));
+        return result;
+    }
+}
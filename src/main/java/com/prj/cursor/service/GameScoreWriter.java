@@ -0,0 +1,258 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.ScoreEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점수 이력 write-behind 저장소
+ *
+ * 요청 스레드는 점수를 제한된 크기의 큐에 넣고 바로 반환하며,
+ * 백그라운드 스레드가 큐를 모아 game_scores에 JDBC 배치 INSERT로 저장합니다.
+ * 같은 트랜잭션에서 {@link GameBestScoreRollup}으로 사용자별 최고 점수 롤업도 갱신합니다.
+ *
+ * GameScore의 IDENTITY 전략은 Hibernate 배치 INSERT를 막기 때문에 JPA를 거치지 않고,
+ * id는 DB의 auto increment가 부여합니다.
+ *
+ * 큐가 가득 차면 offer-timeout만큼 기다린 뒤에도 자리가 없을 때 호출 스레드에서 직접 저장합니다.
+ * (생산자 속도를 DB 속도에 맞추는 백프레셔) 종료 시에는 남은 점수를 모두 저장하고, 종료 후 들어온 점수는 호출 스레드에서 저장합니다.
+ *
+ * 컬럼 제약을 어기는 점수는 큐에 넣기 전에 거부합니다. 그래도 배치 저장이 실패하면 한 건씩 다시 저장해
+ * 실패한 점수만 버리고 나머지는 저장합니다.
+ */
+@Component
+@Slf4j
+public class GameScoreWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO game_scores (user_id, nickname, score, game_type, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GameBestScoreRollup bestScoreRollup;
+    private final TransactionOperations transactionOperations;
+    private final BlockingQueue<ScoreEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+
+    /**
+     * game_scores.nickname 컬럼 길이
+     */
+    static final int MAX_NICKNAME_LENGTH = 50;
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private Thread worker;
+
+    public GameScoreWriter(
+            JdbcTemplate jdbcTemplate,
+            GameBestScoreRollup bestScoreRollup,
+            TransactionOperations transactionOperations,
+            @Value("${game.score.write-behind.capacity:10000}") int capacity,
+            @Value("${game.score.write-behind.batch-size:500}") int batchSize,
+            @Value("${game.score.write-behind.flush-interval:200ms}") Duration flushInterval,
+            @Value("${game.score.write-behind.offer-timeout:50ms}") Duration offerTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bestScoreRollup = bestScoreRollup;
+        this.transactionOperations = transactionOperations;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.offerTimeoutMillis = offerTimeout.toMillis();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "game-score-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 종료 시 큐에 남은 점수를 모두 저장
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        int remaining = flushQueue();
+        log.info("점수 write-behind 종료: 남은 점수 {}건 저장", remaining);
+    }
+
+    /**
+     * 점수 저장 예약
+     *
+     * @throws IllegalArgumentException game_scores에 저장할 수 없는 점수인 경우 ({@link #isStorable(ScoreEvent)})
+     */
+    public void enqueue(ScoreEvent scoreEvent) {
+        if (!isStorable(scoreEvent)) {
+            throw new IllegalArgumentException("저장할 수 없는 점수입니다: " + scoreEvent);
+        }
+        if (stopped) {
+            // 종료 후에는 큐를 비울 스레드가 없으므로 호출 스레드에서 저장
+            writeWithRetry(List.of(scoreEvent));
+            return;
+        }
+
+        try {
+            if (queue.offer(scoreEvent, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                if (stopped) {
+                    // 종료 처리가 큐를 비운 뒤에 들어간 경우
+                    flushQueue();
+                }
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 큐가 가득 찬 경우 호출 스레드에서 직접 저장 (백프레셔)
+        log.warn("점수 write-behind 큐가 가득 참, 호출 스레드에서 저장합니다: queueSize={}", queue.size());
+        writeWithRetry(List.of(scoreEvent));
+    }
+
+    /**
+     * 여러 점수 저장 예약 (배치 컨슈머용)
+     *
+     * @throws IllegalArgumentException 저장할 수 없는 점수가 있는 경우 (그 앞의 점수는 예약됨)
+     */
+    public void enqueueAll(List<ScoreEvent> scoreEvents) {
+        for (ScoreEvent scoreEvent : scoreEvents) {
+            enqueue(scoreEvent);
+        }
+    }
+
+    /**
+     * game_scores 컬럼 제약(NOT NULL, 길이)을 만족하는 점수인지 여부
+     */
+    static boolean isStorable(ScoreEvent scoreEvent) {
+        return scoreEvent != null
+                && scoreEvent.getUserId() != null
+                && scoreEvent.getScore() != null
+                && scoreEvent.getNickname() != null
+                && scoreEvent.getNickname().length() <= MAX_NICKNAME_LENGTH
+                && scoreEvent.getGameType() != null
+                && !scoreEvent.getGameType().isEmpty()
+                && scoreEvent.getGameType().length() <= GameTypes.MAX_LENGTH;
+    }
+
+    /**
+     * 큐에 대기 중인 점수 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<ScoreEvent> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                ScoreEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 큐에 남은 점수를 모두 저장
+     *
+     * @return 저장을 시도한 점수 수
+     */
+    private int flushQueue() {
+        List<ScoreEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            writeWithRetry(remaining);
+        }
+        return remaining.size();
+    }
+
+    /**
+     * 배치로 저장하고, 실패하면 한 건씩 다시 저장해 실패한 점수만 버림
+     */
+    void writeWithRetry(List<ScoreEvent> scoreEvents) {
+        try {
+            writeBatch(scoreEvents);
+            return;
+        } catch (Exception e) {
+            if (scoreEvents.size() == 1) {
+                log.error("점수 저장 실패, 버립니다: {}", scoreEvents.get(0), e);
+                return;
+            }
+            log.warn("점수 배치 저장 실패, 한 건씩 다시 저장합니다: count={}", scoreEvents.size(), e);
+        }
+
+        int dropped = 0;
+        for (ScoreEvent scoreEvent : scoreEvents) {
+            try {
+                writeBatch(List.of(scoreEvent));
+            } catch (Exception e) {
+                dropped++;
+                log.error("점수 저장 실패, 버립니다: {}", scoreEvent, e);
+            }
+        }
+        log.info("점수 배치 재저장 완료: count={}, dropped={}", scoreEvents.size(), dropped);
+    }
+
+    void writeBatch(List<ScoreEvent> scoreEvents) {
+        transactionOperations.executeWithoutResult(status -> {
+            insertScores(scoreEvents);
+            bestScoreRollup.upsert(scoreEvents);
+        });
+        log.debug("점수 배치 저장 완료: count={}", scoreEvents.size());
+    }
+
+    private void insertScores(List<ScoreEvent> scoreEvents) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ScoreEvent scoreEvent = scoreEvents.get(i);
+                long playedAt = scoreEvent.getTimestamp() != null
+                        ? scoreEvent.getTimestamp() : System.currentTimeMillis();
+
+                ps.setLong(1, scoreEvent.getUserId());
+                ps.setString(2, scoreEvent.getNickname());
+                ps.setInt(3, scoreEvent.getScore());
+                ps.setString(4, scoreEvent.getGameType());
+                ps.setTimestamp(5, new Timestamp(playedAt));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return scoreEvents.size();
+            }
+        });
+    }
+}
@@ -1,74 +1,170 @@
 package com.prj.cursor.service;
 
+import com.prj.cursor.config.KafkaConfig;
 import com.prj.cursor.dto.RankingEntry;
 import com.prj.cursor.dto.ScoreEvent;
-import com.prj.cursor.entity.GameScore;
+import com.prj.cursor.repository.GameBestScoreRepository;
 import com.prj.cursor.repository.GameScoreRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 public class GameService {
     
+    /**
+     * 한 번에 조회할 수 있는 최대 랭킹 수
+     */
+    private static final int MAX_RANKING_PAGE_SIZE = 1000;
+    
     @Autowired
     private GameScoreRepository gameScoreRepository;
     
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private GameBestScoreRepository gameBestScoreRepository;
+    
+    @Autowired
+    private RedisRankingStore rankingStore;
     
     @Autowired(required = false)
     private KafkaTemplate<String, Object> kafkaTemplate;
     
-    @Transactional
-    public void submitScore(Long userId, String nickname, Integer score, String gameType) {
+    @Autowired
+    private NicknameResolver nicknameResolver;
+    
+    @Autowired
+    private LocalRankingEngine localRankingEngine;
+    
+    @Autowired
+    private GameScoreWriter gameScoreWriter;
+    
+    @Autowired
+    private RankingCache rankingCache;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private GameTypes gameTypes;
+    
+    @Value("${game.score.ingestion-mode:direct}")
+    private ScoreIngestionMode ingestionMode;
+    
+    @Value("${game.score.undelivered.queue-capacity:10000}")
+    private int undeliveredQueueCapacity;
+    
+    /**
+     * 브로커에 전달되지 못한 이벤트의 대신 처리용 스레드
+     * 
+     * 전송 콜백은 Kafka 프로듀서 I/O 스레드에서 실행되므로, Redis/DB 작업을 콜백에서 직접 하면
+     * 그동안 다른 전송도 모두 멈춥니다. 콜백은 이 스레드에 넘기기만 합니다.
+     */
+    private ThreadPoolExecutor undeliveredExecutor;
+    
+    @PostConstruct
+    void startUndeliveredExecutor() {
+        undeliveredExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(undeliveredQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "score-undelivered");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+    
+    @PreDestroy
+    void stopUndeliveredExecutor() {
+        if (undeliveredExecutor == null) {
+            return;
+        }
+        undeliveredExecutor.shutdown();
+        try {
+            if (!undeliveredExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("종료 시 처리하지 못한 미전달 점수 이벤트: {}건", undeliveredExecutor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 점수 제출
+     * 
+     * 수집 모드(game.score.ingestion-mode)에 따라 처리 경로가 달라지며,
+     * 어느 모드에서든 점수 하나당 랭킹 반영과 브로드캐스트는 정확히 한 번씩 일어납니다.
+     * 
+     * - DIRECT: 요청 스레드에서 DB 저장과 랭킹 반영 (Kafka 미사용)
+     * - ASYNC: 요청 스레드는 Kafka 전송만, 컨슈머가 DB 저장과 랭킹 반영
+     * - HYBRID: 요청 스레드에서 랭킹 반영, 컨슈머가 DB 저장
+     * 
+     * Kafka 전송에 실패하면 컨슈머 몫의 작업을 요청 스레드에서 대신 처리합니다.
+     * DB 저장은 {@link GameScoreWriter}가 백그라운드에서 배치로 처리하므로 커밋을 기다리지 않습니다.
+     * 
+     * @return 요청 스레드에서 랭킹을 반영한 경우 반영 후 순위, 컨슈머가 반영하거나 순위 밖이면 null
+     * @throws IllegalArgumentException 사용자 ID나 점수가 없거나, 닉네임이 비었거나 너무 길거나, 알 수 없는 게임 타입인 경우
+     */
+    public Long submitScore(Long userId, String nickname, Integer score, String gameType) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID가 필요합니다.");
+        }
+        if (score == null) {
+            throw new IllegalArgumentException("점수가 필요합니다.");
+        }
+        if (nickname == null || nickname.isBlank() || nickname.length() > GameScoreWriter.MAX_NICKNAME_LENGTH) {
+            throw new IllegalArgumentException("닉네임은 1~" + GameScoreWriter.MAX_NICKNAME_LENGTH + "자여야 합니다.");
+        }
+        gameTypes.validate(gameType);
+        
         try {
-            // 1. DB에 점수 저장
-            GameScore gameScore = GameScore.builder()
+            ScoreEvent scoreEvent = ScoreEvent.builder()
                     .userId(userId)
                     .nickname(nickname)
                     .score(score)
                     .gameType(gameType)
+                    .timestamp(System.currentTimeMillis())
                     .build();
             
-            gameScoreRepository.save(gameScore);
-            log.info("점수 저장 완료: userId={}, nickname={}, score={}, gameType={}", 
-                    userId, nickname, score, gameType);
-            
-            // 2. Redis에 직접 랭킹 업데이트 (Kafka 없이)
-            updateRankingDirectly(userId, nickname, score, gameType);
-            
-            // 3. Kafka로 점수 이벤트 전송 (선택적)
-            if (kafkaTemplate != null) {
-                try {
-                    ScoreEvent scoreEvent = ScoreEvent.builder()
-                            .userId(userId)
-                            .nickname(nickname)
-                            .score(score)
-                            .gameType(gameType)
-                            .timestamp(System.currentTimeMillis())
-                            .build();
-                    
-                    kafkaTemplate.send("game-scores", scoreEvent);
-                    log.info("Kafka 이벤트 전송 완료: {}", scoreEvent);
-                } catch (Exception kafkaError) {
-                    log.warn("Kafka 전송 실패, Redis만 업데이트: {}", kafkaError.getMessage());
+            Long rank = null;
+            switch (ingestionMode) {
+                case DIRECT -> {
+                    persistScore(scoreEvent);
+                    rank = updateRanking(scoreEvent);
+                }
+                case ASYNC -> {
+                    if (!publishScoreEvent(scoreEvent)) {
+                        persistScore(scoreEvent);
+                        rank = updateRanking(scoreEvent);
+                    }
+                }
+                case HYBRID -> {
+                    rank = updateRanking(scoreEvent);
+                    if (!publishScoreEvent(scoreEvent)) {
+                        persistScore(scoreEvent);
+                    }
                 }
-            } else {
-                log.info("Kafka가 설정되지 않음, Redis만 업데이트");
             }
+            return rank;
             
         } catch (Exception e) {
             log.error("점수 제출 중 오류 발생: userId={}, score={}", userId, score, e);
@@ -76,89 +172,288 @@ public class GameService {
         }
     }
     
+    public ScoreIngestionMode getIngestionMode() {
+        return ingestionMode;
+    }
+    
     /**
-     * Redis에 직접 랭킹 업데이트 (Kafka 없이)
+     * 점수 이력 DB 저장 예약 (write-behind, 커밋을 기다리지 않음)
      */
-    private void updateRankingDirectly(Long userId, String nickname, Integer score, String gameType) {
+    public void persistScore(ScoreEvent scoreEvent) {
+        gameScoreWriter.enqueue(scoreEvent);
+        log.info("점수 저장 예약 완료: userId={}, nickname={}, score={}, gameType={}", 
+                scoreEvent.getUserId(), scoreEvent.getNickname(), scoreEvent.getScore(), scoreEvent.getGameType());
+    }
+    
+    /**
+     * 점수 이력 일괄 DB 저장 예약 (배치 컨슈머용)
+     */
+    public void persistScores(List<ScoreEvent> scoreEvents) {
+        gameScoreWriter.enqueueAll(scoreEvents);
+        log.info("점수 일괄 저장 예약 완료: count={}", scoreEvents.size());
+    }
+    
+    /**
+     * Kafka로 점수 이벤트 전송
+     * 
+     * 전송 요청(enqueue)까지만 기다리며 브로커 응답은 기다리지 않습니다.
+     * 메타데이터를 받을 수 없거나 버퍼가 가득 차면 max.block.ms(game.kafka.producer.max-block)까지만 기다린 뒤 실패합니다.
+     * 전송 요청 후 브로커 전송이 실패하면 컨슈머 몫의 작업을 별도 스레드에서 대신 처리합니다.
+     * 
+     * @return 전송 요청 성공 여부 (Kafka 미설정 또는 즉시 실패 시 false)
+     */
+    private boolean publishScoreEvent(ScoreEvent scoreEvent) {
+        if (kafkaTemplate == null) {
+            log.info("Kafka가 설정되지 않음, 요청 스레드에서 처리합니다.");
+            return false;
+        }
+        
         try {
-            String key = "ranking:" + gameType;
-            ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
-            
-            // Redis에 점수 업데이트 (닉네임을 멤버로, 점수를 스코어로)
-            zSetOps.add(key, nickname, score);
-            
-            // 상위 1000명만 유지 (메모리 절약)
-            zSetOps.removeRange(key, 0, -1001);
-            
-            log.info("Redis 랭킹 직접 업데이트 완료: nickname={}, score={}, gameType={}", 
-                    nickname, score, gameType);
-            
+            // 게임 타입을 키로 보내 같은 랭킹의 이벤트가 한 파티션에서 순서대로 처리되도록 함
+            kafkaTemplate.send(KafkaConfig.SCORE_TOPIC, scoreEvent.getGameType(), scoreEvent)
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            log.error("Kafka 이벤트 전송 실패, 별도 스레드에서 처리합니다: {}", scoreEvent, error);
+                            submitUndelivered(scoreEvent);
+                        }
+                    });
+            log.info("Kafka 이벤트 전송 요청 완료: {}", scoreEvent);
+            return true;
+        } catch (Exception kafkaError) {
+            log.warn("Kafka 전송 실패, 요청 스레드에서 처리합니다: {}", kafkaError.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 전달되지 못한 이벤트를 대신 처리 스레드에 넘김 (프로듀서 I/O 스레드에서 호출되므로 Redis/DB 작업은 하지 않음)
+     * 
+     * 대기열이 가득 차면 I/O 스레드를 막지 않도록 처리하지 않고 이벤트를 오류 로그로 남깁니다.
+     */
+    private void submitUndelivered(ScoreEvent scoreEvent) {
+        try {
+            undeliveredExecutor.execute(() -> handleUndelivered(scoreEvent));
+        } catch (RejectedExecutionException e) {
+            log.error("미전달 점수 이벤트 대기열이 가득 차 처리하지 못함: {}", scoreEvent);
+        }
+    }
+    
+    /**
+     * 브로커에 전달되지 못한 점수 이벤트 처리 (컨슈머가 받지 못하므로 컨슈머 몫의 작업을 대신 수행)
+     * 
+     * - ASYNC: DB 저장과 랭킹 반영
+     * - HYBRID: DB 저장 (랭킹은 요청 경로에서 이미 반영됨)
+     */
+    private void handleUndelivered(ScoreEvent scoreEvent) {
+        try {
+            persistScore(scoreEvent);
+            if (ingestionMode == ScoreIngestionMode.ASYNC) {
+                updateRanking(scoreEvent);
+            }
         } catch (Exception e) {
-            log.warn("Redis 직접 업데이트 실패: {}", e.getMessage());
+            log.error("전달되지 못한 점수 이벤트 처리 중 오류 발생: {}", scoreEvent, e);
         }
     }
     
+    /**
+     * 랭킹 변경 알림 - 캐시 버전을 올리고 브로드캐스트를 요청합니다.
+     * 
+     * 쓰기 이후에 버전을 올려야 캐시가 이전 랭킹을 새 버전으로 적재하지 않습니다.
+     */
+    private void rankingChanged(String gameType) {
+        rankingCache.bumpVersion(gameType);
+        eventPublisher.publishEvent(new RankingChangedEvent(gameType));
+    }
+    
     public List<RankingEntry> getTopRankings(String gameType, int limit) {
+        return getRankings(gameType, 0, limit);
+    }
+    
+    public List<RankingEntry> getRankings(String gameType, int offset, int limit) {
+        return getRankings(gameType, RankingWindow.ALL_TIME, offset, limit);
+    }
+    
+    /**
+     * 랭킹 구간 조회 (offset/limit 페이지)
+     * 
+     * 상위 N위 안의 구간은 {@link RankingCache}에서 바로 반환하고,
+     * 캐시가 무효화된 경우에만 Redis에서 상위 N위를 다시 적재합니다.
+     * Redis를 쓸 수 없어 대체 경로(인메모리/DB)에서 읽은 결과는 근사치이므로 캐시에 적재하지 않습니다.
+     * 일간/주간 랭킹은 캐시 없이 현재 기간 키에서 바로 조회합니다 (O(log n + k)).
+     * 순위는 offset 기준으로 계산됩니다 (offset=0이면 1위부터).
+     */
+    public List<RankingEntry> getRankings(String gameType, RankingWindow window, int offset, int limit) {
+        int start = Math.max(offset, 0);
+        int size = Math.min(Math.max(limit, 1), MAX_RANKING_PAGE_SIZE);
+        
+        if (window != RankingWindow.ALL_TIME) {
+            return loadRankings(gameType, window, start, size);
+        }
+        
+        List<RankingEntry> cached = rankingCache.get(gameType, start, size);
+        if (cached != null) {
+            return cached;
+        }
+        
+        if ((long) start + size > rankingCache.getTopN()) {
+            return loadRankings(gameType, window, start, size);
+        }
+        
+        // 적재 전에 버전을 읽어 두어야 적재 중 반영된 점수를 놓치지 않음
+        long version = rankingCache.currentVersion(gameType);
+        List<RankingEntry> top = loadRankingsFromRedis(gameType, window, 0, rankingCache.getTopN());
+        if (top == null) {
+            return getRankingsFromFallback(gameType, window, start, size);
+        }
+        rankingCache.put(gameType, version, top);
+        
+        return top.subList(Math.min(start, top.size()), Math.min(start + size, top.size()));
+    }
+    
+    /**
+     * 랭킹 구간 조회 (Redis에 없거나 오류면 대체 경로에서 조회)
+     */
+    private List<RankingEntry> loadRankings(String gameType, RankingWindow window, int start, int size) {
+        List<RankingEntry> rankings = loadRankingsFromRedis(gameType, window, start, size);
+        return rankings != null ? rankings : getRankingsFromFallback(gameType, window, start, size);
+    }
+    
+    /**
+     * Redis에서 랭킹 구간 조회
+     * 
+     * ZREVRANGE ... WITHSCORES 한 번으로 멤버(userId)와 점수를 함께 가져오고,
+     * 닉네임은 {@link NicknameResolver}로 한 번에 변환합니다.
+     * 
+     * @return 랭킹 구간 (마지막 순위 이후 구간이면 빈 목록), Redis에 랭킹 키가 없거나 조회에 실패하면 null
+     */
+    private List<RankingEntry> loadRankingsFromRedis(String gameType, RankingWindow window, int start, int size) {
         try {
-            // Redis 연결 시도
-            String key = "ranking:" + gameType;
-            ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
-            
-            // Redis에서 상위 랭킹 조회 (RedisTestController와 같은 방식)
-            Set<Object> rankings = zSetOps.reverseRange(key, 0, limit - 1);
-            
-            List<RankingEntry> result = new ArrayList<>();
-            int rank = 1;
+            // 멤버와 점수를 한 번에 조회
+            Set<ZSetOperations.TypedTuple<String>> rankings = rankingStore.range(gameType, window, start, size);
             
             if (rankings != null && !rankings.isEmpty()) {
-                for (Object ranking : rankings) {
-                    String nickname = (String) ranking;
-                    
-                    if (nickname != null) {
-                        // 점수는 별도로 조회
-                        Double score = zSetOps.score(key, nickname);
-                        
-                        RankingEntry entry = RankingEntry.builder()
-                                .nickname(nickname)
-                                .score(score != null ? score.intValue() : 0)
-                                .rank(rank++)
-                                .playedAt(LocalDateTime.now())
-                                .build();
-                        result.add(entry);
-                    }
+                List<Long> userIds = new ArrayList<>(rankings.size());
+                List<Integer> scores = new ArrayList<>(rankings.size());
+                for (ZSetOperations.TypedTuple<String> ranking : rankings) {
+                    userIds.add(Long.valueOf(ranking.getValue()));
+                    scores.add(ranking.getScore() != null ? ranking.getScore().intValue() : 0);
                 }
-                log.info("Redis 랭킹 조회 완료: gameType={}, count={}", gameType, result.size());
+                
+                List<RankingEntry> result = toRankingEntries(userIds, scores, start + 1);
+                log.info("Redis 랭킹 조회 완료: gameType={}, window={}, offset={}, count={}", 
+                        gameType, window, start, result.size());
                 return result;
+            } else if (start > 0 && rankingStore.size(gameType, window) > 0) {
+                // 키는 있고 요청 구간이 마지막 순위 이후일 뿐이므로 대체 경로로 가지 않음
+                return List.of();
             } else {
-                log.info("Redis에 랭킹 데이터가 없음. DB에서 조회합니다.");
-                return getRankingsFromDatabase(gameType, limit);
+                // 키가 유실된 것이므로 재구성 예약 (min-interval 안에는 한 번만)
+                log.info("Redis에 랭킹 데이터가 없음. 대체 경로에서 조회합니다.");
+                eventPublisher.publishEvent(new RankingMissingEvent(gameType, window));
+                return null;
             }
             
         } catch (Exception e) {
-            log.warn("Redis 랭킹 조회 실패, DB에서 조회합니다: gameType={}, error={}", gameType, e.getMessage());
-            return getRankingsFromDatabase(gameType, limit);
+            log.warn("Redis 랭킹 조회 실패, 대체 경로에서 조회합니다: gameType={}, error={}", gameType, e.getMessage());
+            return null;
         }
     }
     
     /**
-     * DB에서 랭킹 조회 (Redis 연결 실패 시 대체)
+     * userId/점수 목록을 닉네임이 채워진 랭킹 항목으로 변환
      */
-    private List<RankingEntry> getRankingsFromDatabase(String gameType, int limit) {
+    private List<RankingEntry> toRankingEntries(List<Long> userIds, List<Integer> scores, int firstRank) {
+        Map<Long, String> nicknames = nicknameResolver.resolve(userIds);
+        
+        List<RankingEntry> result = new ArrayList<>(userIds.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            result.add(RankingEntry.builder()
+                    .userId(userId)
+                    .nickname(nicknames.get(userId))
+                    .score(scores.get(i))
+                    .rank(firstRank + i)
+                    .playedAt(now)
+                    .build());
+        }
+        return result;
+    }
+    
+    /**
+     * Redis를 쓸 수 없을 때의 랭킹 조회
+     * 
+     * 전체 기간 랭킹은 준비된 {@link LocalRankingEngine}에서 O(log n + k)로 조회하고,
+     * 기간 랭킹이거나 인메모리 랭킹이 아직 준비되지 않았으면 DB에서 조회합니다.
+     */
+    private List<RankingEntry> getRankingsFromFallback(String gameType, RankingWindow window, int offset, int limit) {
+        if (window == RankingWindow.ALL_TIME && localRankingEngine.isWarm()) {
+            try {
+                List<LocalRankingEngine.RankedScore> ranked = localRankingEngine.top(gameType, offset, limit);
+                log.info("인메모리 랭킹 조회 완료: gameType={}, offset={}, count={}", gameType, offset, ranked.size());
+                return fromRankedScores(ranked);
+            } catch (Exception e) {
+                log.warn("인메모리 랭킹 조회 실패, DB에서 조회합니다: gameType={}, error={}", gameType, e.getMessage());
+            }
+        }
+        return getRankingsFromDatabase(gameType, window, offset, limit);
+    }
+    
+    private List<RankingEntry> fromRankedScores(List<LocalRankingEngine.RankedScore> ranked) {
+        if (ranked.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> userIds = new ArrayList<>(ranked.size());
+        List<Integer> scores = new ArrayList<>(ranked.size());
+        for (LocalRankingEngine.RankedScore rankedScore : ranked) {
+            userIds.add(rankedScore.getUserId());
+            scores.add(rankedScore.getScore());
+        }
+        return toRankingEntries(userIds, scores, ranked.get(0).getRank());
+    }
+    
+    /**
+     * 사용자 주변 순위 조회 (앞뒤 radius명 포함, 전체 기간 기준)
+     * 
+     * Redis ZREVRANK + ZREVRANGE로 조회하고, Redis 장애 시 인메모리 랭킹에서 조회합니다.
+     * 사용자가 보관 인원 밖이면 빈 목록을 반환합니다.
+     */
+    public List<RankingEntry> getRankingsAround(String gameType, Long userId, int radius) {
+        int span = Math.min(Math.max(radius, 0), MAX_RANKING_PAGE_SIZE / 2);
         try {
-            List<GameScore> scores = gameScoreRepository.findTopByGameTypeOrderByScoreDesc(gameType, 
-                org.springframework.data.domain.PageRequest.of(0, limit));
+            Long rank = rankingStore.rankOf(gameType, RankingWindow.ALL_TIME, userId);
+            if (rank == null) {
+                return new ArrayList<>();
+            }
+            int start = (int) Math.max(rank - span, 0);
+            return loadRankings(gameType, RankingWindow.ALL_TIME, start, (int) (rank - start) + span + 1);
             
-            List<RankingEntry> result = new ArrayList<>();
-            int rank = 1;
+        } catch (Exception e) {
+            log.warn("Redis 주변 순위 조회 실패, 인메모리 랭킹에서 조회합니다: gameType={}, error={}", gameType, e.getMessage());
+            return fromRankedScores(localRankingEngine.around(gameType, userId, span));
+        }
+    }
+    
+    /**
+     * DB에서 랭킹 조회 (Redis 연결 실패 시 대체)
+     * 
+     * 전체 기간은 game_best_scores 롤업의 (gameType, score) 인덱스를 읽고,
+     * 기간 랭킹은 game_scores의 (gameType, createdAt) 인덱스 범위에서 사용자별 최고 점수를 집계합니다.
+     */
+    private List<RankingEntry> getRankingsFromDatabase(String gameType, RankingWindow window, int offset, int limit) {
+        try {
+            org.springframework.data.domain.Pageable pageable = 
+                org.springframework.data.domain.PageRequest.of(0, offset + limit);
+            Instant windowStart = rankingStore.windowStart(window, Instant.now());
+            List<RankingEntry> rows = windowStart == null
+                    ? gameBestScoreRepository.findRankings(gameType, pageable)
+                    : gameScoreRepository.findRankingsSince(gameType, 
+                            LocalDateTime.ofInstant(windowStart, ZoneId.systemDefault()), pageable);
             
-            for (GameScore score : scores) {
-                RankingEntry entry = RankingEntry.builder()
-                        .nickname(score.getNickname())
-                        .score(score.getScore())
-                        .rank(rank++)
-                        .playedAt(score.getCreatedAt())
-                        .build();
-                result.add(entry);
+            List<RankingEntry> result = new ArrayList<>(rows.subList(Math.min(offset, rows.size()), rows.size()));
+            int rank = offset + 1;
+            for (RankingEntry entry : result) {
+                entry.setRank(rank++);
             }
             
             log.info("DB 랭킹 조회 완료: gameType={}, count={}", gameType, result.size());
@@ -170,22 +465,70 @@ public class GameService {
         }
     }
     
-    public void updateRanking(ScoreEvent scoreEvent) {
+    /**
+     * 랭킹 반영 (전체/일간/주간 최고 점수 유지 + 정리 + 순위 조회를 Redis 왕복 1회로 처리)
+     * 
+     * 개인 최고 기록이 갱신된 경우에만 캐시를 무효화하고 브로드캐스트를 요청합니다.
+     * 
+     * @return 반영 후 순위 (순위 밖이거나 Redis 오류 시 null)
+     */
+    public Long updateRanking(ScoreEvent scoreEvent) {
+        String gameType = scoreEvent.getGameType();
+        localRankingEngine.submit(gameType, scoreEvent.getUserId(), scoreEvent.getScore());
+        
         try {
-            String key = "ranking:" + scoreEvent.getGameType();
-            ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
-            
-            // Redis에 점수 업데이트 (닉네임을 멤버로, 점수를 스코어로)
-            zSetOps.add(key, scoreEvent.getNickname(), scoreEvent.getScore());
+            RedisRankingStore.BestScoreResult result = rankingStore.submitBestScore(scoreEvent);
+            nicknameResolver.remember(scoreEvent.getUserId(), scoreEvent.getNickname());
             
-            // 상위 1000명만 유지 (메모리 절약)
-            zSetOps.removeRange(key, 0, -1001);
+            log.info("Redis 랭킹 업데이트 완료: userId={}, score={}, gameType={}, improved={}, rank={}", 
+                    scoreEvent.getUserId(), scoreEvent.getScore(), gameType, result.isImproved(), result.getRank());
             
-            log.info("Redis 랭킹 업데이트 완료: nickname={}, score={}, gameType={}", 
-                    scoreEvent.getNickname(), scoreEvent.getScore(), scoreEvent.getGameType());
+            if (result.isImproved()) {
+                rankingChanged(gameType);
+            }
+            return result.getRank();
             
         } catch (Exception e) {
             log.error("Redis 랭킹 업데이트 중 오류 발생: {}", scoreEvent, e);
+            // 대체 조회 결과가 바뀌었을 수 있으므로 캐시는 무효화
+            rankingChanged(gameType);
+            int localRank = localRankingEngine.rankOf(gameType, scoreEvent.getUserId());
+            return localRank > 0 ? (long) localRank : null;
+        }
+    }
+    
+    /**
+     * 배치 랭킹 업데이트
+     * 
+     * 여러 사용자의 최고 점수를 스크립트 한 번(Redis 왕복 1회)으로 반영하고 보관 인원으로 정리합니다.
+     * 
+     * @param gameType 게임 타입
+     * @param bestScores 사용자별 배치 내 최고 점수 이벤트 (사용자당 하나)
+     */
+    public void updateRankingBatch(String gameType, Collection<ScoreEvent> bestScores) {
+        if (bestScores.isEmpty()) {
+            return;
+        }
+        
+        for (ScoreEvent scoreEvent : bestScores) {
+            localRankingEngine.submit(gameType, scoreEvent.getUserId(), scoreEvent.getScore());
+        }
+        
+        try {
+            long improved = rankingStore.submitBestScores(gameType, bestScores);
+            for (ScoreEvent scoreEvent : bestScores) {
+                nicknameResolver.remember(scoreEvent.getUserId(), scoreEvent.getNickname());
+            }
+            log.info("Redis 배치 랭킹 업데이트 완료: gameType={}, members={}, improved={}", 
+                    gameType, bestScores.size(), improved);
+            
+            if (improved > 0) {
+                rankingChanged(gameType);
+            }
+            
+        } catch (Exception e) {
+            log.error("Redis 배치 랭킹 업데이트 중 오류 발생: gameType={}", gameType, e);
+            rankingChanged(gameType);
         }
     }
 }
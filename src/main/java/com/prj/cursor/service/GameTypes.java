@@ -0,0 +1,63 @@
+package com.prj.cursor.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 점수 제출과 랭킹을 허용하는 게임 타입 목록 (game.types)
+ *
+ * 게임 타입은 Redis 키, 캐시, 속도 제한 버킷 등의 키로 쓰이므로
+ * 클라이언트가 보낸 임의의 값으로 키가 늘어나지 않도록 설정된 게임 타입만 허용합니다.
+ */
+@Component
+public class GameTypes {
+
+    /**
+     * 게임 타입 최대 길이 (game_scores.game_type 컬럼 길이)
+     */
+    public static final int MAX_LENGTH = 20;
+
+    private final Set<String> known;
+
+    public GameTypes(@Value("${game.types:snake}") Collection<String> gameTypes) {
+        Set<String> types = new LinkedHashSet<>();
+        for (String gameType : gameTypes) {
+            String trimmed = gameType.trim();
+            if (trimmed.isEmpty() || trimmed.length() > MAX_LENGTH) {
+                throw new IllegalArgumentException("잘못된 게임 타입 설정: " + gameType);
+            }
+            types.add(trimmed);
+        }
+        this.known = Collections.unmodifiableSet(types);
+    }
+
+    /**
+     * 설정된 게임 타입 전체
+     */
+    public Set<String> all() {
+        return known;
+    }
+
+    /**
+     * 설정된 게임 타입인지 여부 (null이면 false)
+     */
+    public boolean isKnown(String gameType) {
+        return gameType != null && known.contains(gameType);
+    }
+
+    /**
+     * 설정된 게임 타입인지 검증
+     *
+     * @throws IllegalArgumentException 설정되지 않은 게임 타입인 경우
+     */
+    public void validate(String gameType) {
+        if (!isKnown(gameType)) {
+            throw new IllegalArgumentException("알 수 없는 게임 타입입니다: " + gameType);
+        }
+    }
+}
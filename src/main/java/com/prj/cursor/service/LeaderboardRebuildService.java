@@ -0,0 +1,415 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.ScoreEvent;
+import com.prj.cursor.repository.GameScoreRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * game_scores에서 기간 랭킹을 다시 만드는 작업
+ *
+ * 점수 이력을 전진 전용 커서(fetch size 고정)로 스트리밍하며 chunk-size 행마다 사용자별 최고 점수만 남긴 뒤
+ * {@link RedisRankingStore#rebuild}로 임시 키에 파이프라인으로 쌓은 뒤 기존 랭킹에 병합합니다.
+ * 엔티티가 아닌 (userId, nickname, score) 행만 읽으므로 행 수와 관계없이 메모리 사용량이 일정합니다.
+ *
+ * 재구성은 다음 경우에 실행되며, 게임 타입별로 최대 parallelism개까지 동시에 진행됩니다.
+ * - 기동 시 Redis에 없는 랭킹 키 (Redis가 비워졌거나 키가 만료된 경우)
+ * - 조회 중 랭킹 키가 비어 있음을 발견한 경우 ({@link RankingMissingEvent}, min-interval 안에는 한 번만)
+ * - 관리 API 요청
+ * 같은 (게임, 기간)의 재구성은 한 번에 하나만 실행되며, 진행 상황은 {@link #getProgress()}로 조회합니다.
+ *
+ * 설정된 게임 타입({@link GameTypes})만 재구성하므로 진행 상황은 (게임 타입 수 × 기간 수)개를 넘지 않습니다.
+ * 자동 재구성은 해당 기간에 점수 이력이 있을 때만 실행합니다. (새 기간이 막 시작된 경우 등은 건너뜀)
+ */
+@Service
+@Slf4j
+public class LeaderboardRebuildService {
+
+    /**
+     * 진행 상황을 로그로 남기는 청크 간격
+     */
+    private static final int PROGRESS_LOG_CHUNKS = 100;
+
+    private final GameScoreRepository gameScoreRepository;
+    private final RedisRankingStore rankingStore;
+    private final RankingCache rankingCache;
+    private final GameTypes gameTypes;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+    private final int parallelism;
+    private final long minIntervalMillis;
+    private final boolean rebuildOnStartup;
+
+    private final Map<String, RebuildProgress> jobs = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    public LeaderboardRebuildService(
+            GameScoreRepository gameScoreRepository,
+            RedisRankingStore rankingStore,
+            RankingCache rankingCache,
+            GameTypes gameTypes,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${game.ranking.rebuild.chunk-size:1000}") int chunkSize,
+            @Value("${game.ranking.rebuild.parallelism:4}") int parallelism,
+            @Value("${game.ranking.rebuild.min-interval:1m}") Duration minInterval,
+            @Value("${game.ranking.rebuild.on-startup:true}") boolean rebuildOnStartup) {
+        this.gameScoreRepository = gameScoreRepository;
+        this.rankingStore = rankingStore;
+        this.rankingCache = rankingCache;
+        this.gameTypes = gameTypes;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.minIntervalMillis = minInterval.toMillis();
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicLong threadNumber = new AtomicLong();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-rebuild-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 현재 기간의 랭킹 재구성 (호출 스레드에서 실행)
+     *
+     * @return 읽은 점수 이력 행 수
+     * @throws IllegalArgumentException 설정되지 않은 게임 타입인 경우
+     * @throws IllegalStateException 같은 랭킹을 이미 재구성 중인 경우
+     */
+    public long rebuild(String gameType, RankingWindow window) {
+        gameTypes.validate(gameType);
+        RebuildProgress progress = tryStart(gameType, window, false);
+        if (progress == null) {
+            throw new IllegalStateException("이미 재구성 중인 랭킹입니다: " + gameType + ", " + window.getValue());
+        }
+        return run(progress);
+    }
+
+    /**
+     * 재구성 예약 (백그라운드 실행)
+     *
+     * @param automatic 자동 감지로 요청한 경우 true - 최근 min-interval 안에 끝난 재구성이 있으면 건너뛰고,
+     *                  실행 시 해당 기간에 점수 이력이 없으면 Redis를 건드리지 않고 끝냄
+     * @return 예약되었으면 true, 설정되지 않은 게임 타입이거나 이미 진행 중이거나 건너뛰었으면 false
+     */
+    public boolean requestRebuild(String gameType, RankingWindow window, boolean automatic) {
+        if (!gameTypes.isKnown(gameType)) {
+            log.debug("설정되지 않은 게임 타입은 재구성하지 않음: gameType={}", gameType);
+            return false;
+        }
+        RebuildProgress progress = tryStart(gameType, window, automatic);
+        if (progress == null) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    if (automatic && !hasScores(gameType, window)) {
+                        // 완료로 기록해 min-interval 동안 같은 확인을 반복하지 않음
+                        progress.complete();
+                        log.debug("점수 이력이 없어 자동 재구성 건너뜀: gameType={}, window={}", gameType, window);
+                        return;
+                    }
+                    run(progress);
+                } catch (Exception e) {
+                    // run()에서 실패 상태와 로그를 남김
+                }
+            });
+            return true;
+        } catch (Exception e) {
+            progress.fail(e);
+            log.error("랭킹 재구성 예약 실패: gameType={}, window={}", gameType, window, e);
+            return false;
+        }
+    }
+
+    /**
+     * 점수 이력이 있는 모든 게임의 랭킹 재구성 예약 (설정되지 않은 게임 타입은 제외)
+     *
+     * @return 예약된 게임 타입 수
+     */
+    public int rebuildAll(RankingWindow window) {
+        int scheduled = 0;
+        for (String gameType : knownGameTypesWithScores()) {
+            if (requestRebuild(gameType, window, false)) {
+                scheduled++;
+            }
+        }
+        log.info("전체 랭킹 재구성 예약: window={}, gameTypes={}", window, scheduled);
+        return scheduled;
+    }
+
+    /**
+     * 기동 후 Redis에 없는 랭킹 키를 찾아 재구성 (인메모리 랭킹 준비 이후, 백그라운드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void recoverOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                int scheduled = 0;
+                for (String gameType : knownGameTypesWithScores()) {
+                    for (RankingWindow window : RankingWindow.values()) {
+                        if (rankingStore.size(gameType, window) == 0 && requestRebuild(gameType, window, true)) {
+                            scheduled++;
+                        }
+                    }
+                }
+                log.info("기동 시 랭킹 복구 점검 완료: 재구성 예약={}", scheduled);
+            } catch (Exception e) {
+                log.error("기동 시 랭킹 복구 점검 중 오류 발생", e);
+            }
+        });
+    }
+
+    /**
+     * 조회 중 비어 있는 랭킹 키를 발견하면 재구성 예약 (설정된 게임 타입, 점수 이력이 있는 기간만)
+     */
+    @EventListener
+    public void onRankingMissing(RankingMissingEvent event) {
+        if (requestRebuild(event.getGameType(), event.getWindow(), true)) {
+            log.info("비어 있는 랭킹 감지, 재구성 예약: gameType={}, window={}", event.getGameType(), event.getWindow());
+        }
+    }
+
+    /**
+     * 재구성 진행 상황 (최근 시작 순)
+     */
+    public List<RebuildProgress> getProgress() {
+        List<RebuildProgress> progress = new ArrayList<>(jobs.values());
+        progress.sort(Comparator.comparing(RebuildProgress::getStartedAt).reversed());
+        return progress;
+    }
+
+    /**
+     * 같은 (게임, 기간)에 진행 중인 재구성이 없을 때만 새 작업 등록
+     *
+     * @return 등록한 작업, 등록하지 않았으면 null
+     */
+    private RebuildProgress tryStart(String gameType, RankingWindow window, boolean automatic) {
+        RebuildProgress candidate = new RebuildProgress(gameType, window);
+        RebuildProgress current = jobs.compute(gameType + ":" + window.getValue(), (key, existing) -> {
+            if (existing != null && existing.getState() == RebuildState.RUNNING) {
+                return existing;
+            }
+            if (automatic && existing != null && existing.finishedWithin(minIntervalMillis)) {
+                return existing;
+            }
+            return candidate;
+        });
+        return current == candidate ? candidate : null;
+    }
+
+    private List<String> knownGameTypesWithScores() {
+        return gameScoreRepository.findDistinctGameTypes().stream()
+                .filter(gameTypes::isKnown)
+                .toList();
+    }
+
+    /**
+     * 현재 기간에 점수 이력이 있는지 여부
+     */
+    private boolean hasScores(String gameType, RankingWindow window) {
+        return gameScoreRepository.existsByGameTypeAndCreatedAtGreaterThanEqual(gameType, since(window, Instant.now()));
+    }
+
+    /**
+     * 기간 시작 시각 (game_scores.created_at 기준, ALL_TIME은 1970-01-01)
+     */
+    private LocalDateTime since(RankingWindow window, Instant now) {
+        Instant windowStart = rankingStore.windowStart(window, now);
+        return windowStart != null
+                ? LocalDateTime.ofInstant(windowStart, ZoneId.systemDefault())
+                : LocalDateTime.of(1970, 1, 1, 0, 0);
+    }
+
+    private long run(RebuildProgress progress) {
+        String gameType = progress.getGameType();
+        RankingWindow window = progress.window;
+        try {
+            Instant now = Instant.now();
+            LocalDateTime since = since(window, now);
+
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> scores = gameScoreRepository.streamScoresSince(gameType, since)) {
+                    Iterator<Object[]> iterator = scores.iterator();
+                    Stream<Collection<ScoreEvent>> chunks = Stream
+                            .generate(() -> nextChunk(iterator, gameType, progress))
+                            .takeWhile(Objects::nonNull);
+
+                    String key = rankingStore.rebuild(gameType, window, now, chunks);
+                    log.info("랭킹 재구성 완료: gameType={}, window={}, key={}, rows={}, elapsedMs={}",
+                            gameType, window, key, progress.getRows(),
+                            System.currentTimeMillis() - progress.getStartedAt().toEpochMilli());
+                }
+            });
+
+            if (window == RankingWindow.ALL_TIME) {
+                rankingCache.bumpVersion(gameType);
+                eventPublisher.publishEvent(new RankingChangedEvent(gameType));
+            }
+            progress.complete();
+            return progress.getRows();
+
+        } catch (RuntimeException e) {
+            progress.fail(e);
+            log.error("랭킹 재구성 중 오류 발생: gameType={}, window={}", gameType, window, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 최대 chunk-size 행을 읽어 사용자별 최고 점수만 남김
+     *
+     * @return 더 읽을 행이 없으면 null
+     */
+    private Collection<ScoreEvent> nextChunk(Iterator<Object[]> iterator, String gameType, RebuildProgress progress) {
+        Map<Long, ScoreEvent> best = new LinkedHashMap<>();
+        int read = 0;
+
+        while (read < chunkSize && iterator.hasNext()) {
+            Object[] row = iterator.next();
+            read++;
+            Long userId = (Long) row[0];
+            Integer score = (Integer) row[2];
+            if (userId == null || score == null) {
+                continue;
+            }
+
+            ScoreEvent current = best.get(userId);
+            if (current == null || score > current.getScore()) {
+                best.put(userId, ScoreEvent.builder()
+                        .userId(userId)
+                        .nickname((String) row[1])
+                        .score(score)
+                        .gameType(gameType)
+                        .build());
+            }
+        }
+
+        if (read == 0) {
+            return null;
+        }
+        long chunks = progress.addChunk(read);
+        if (chunks % PROGRESS_LOG_CHUNKS == 0) {
+            log.info("랭킹 재구성 진행 중: gameType={}, window={}, rows={}", gameType, progress.window, progress.getRows());
+        }
+        return best.values();
+    }
+
+    public enum RebuildState {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * 재구성 작업 하나의 진행 상황
+     */
+    @Getter
+    public static class RebuildProgress {
+
+        private final String gameType;
+
+        private final Instant startedAt = Instant.now();
+
+        private volatile RebuildState state = RebuildState.RUNNING;
+
+        private volatile Instant finishedAt;
+
+        private volatile String error;
+
+        @Getter(AccessLevel.NONE)
+        private final RankingWindow window;
+
+        @Getter(AccessLevel.NONE)
+        private final AtomicLong rows = new AtomicLong();
+
+        @Getter(AccessLevel.NONE)
+        private final AtomicLong chunks = new AtomicLong();
+
+        RebuildProgress(String gameType, RankingWindow window) {
+            this.gameType = gameType;
+            this.window = window;
+        }
+
+        public String getWindow() {
+            return window.getValue();
+        }
+
+        /**
+         * 지금까지 읽은 점수 이력 행 수
+         */
+        public long getRows() {
+            return rows.get();
+        }
+
+        private long addChunk(int read) {
+            rows.addAndGet(read);
+            return chunks.incrementAndGet();
+        }
+
+        private void complete() {
+            finishedAt = Instant.now();
+            state = RebuildState.COMPLETED;
+        }
+
+        private void fail(Exception e) {
+            error = e.getMessage();
+            finishedAt = Instant.now();
+            state = RebuildState.FAILED;
+        }
+
+        private boolean finishedWithin(long millis) {
+            Instant finished = finishedAt;
+            return finished != null && finished.toEpochMilli() + millis > System.currentTimeMillis();
+        }
+    }
+}
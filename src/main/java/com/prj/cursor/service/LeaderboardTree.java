@@ -0,0 +1,329 @@
+package com.prj.cursor.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 크기가 제한된 순위 통계 트리 (treap)
+ *
+ * 노드는 객체 대신 기본형 배열의 인덱스이며, 각 노드는 서브트리 크기를 가지고 있어
+ * 반영, 순위 조회, k번째 조회가 모두 O(log n)입니다. 정렬 순서는 점수 내림차순, 같은 점수는 userId 오름차순입니다.
+ *
+ * 사용자당 최고 점수 하나만 보관하며, capacity를 넘으면 가장 낮은 항목을 버립니다.
+ * userId → 노드 조회도 선형 탐사 해시(long[]/int[])로 처리하므로 박싱이 없습니다.
+ *
+ * 스레드 안전하지 않습니다. 동기화는 {@link LocalRankingEngine}이 담당합니다.
+ */
+final class LeaderboardTree {
+
+    private static final int NIL = -1;
+
+    private final long[] userIds;
+    private final int[] scores;
+    private final int[] priorities;
+    private final int[] lefts;
+    private final int[] rights;
+    private final int[] sizes;
+
+    private final int[] freeNodes;
+    private int freeCount;
+
+    private final long[] slotKeys;
+    private final int[] slotNodes;
+    private final int slotMask;
+
+    private final SplittableRandom random = new SplittableRandom();
+
+    private int root = NIL;
+
+    LeaderboardTree(int capacity) {
+        this.userIds = new long[capacity];
+        this.scores = new int[capacity];
+        this.priorities = new int[capacity];
+        this.lefts = new int[capacity];
+        this.rights = new int[capacity];
+        this.sizes = new int[capacity];
+
+        this.freeNodes = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            freeNodes[i] = capacity - 1 - i;
+        }
+        this.freeCount = capacity;
+
+        int slots = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+        this.slotKeys = new long[slots];
+        this.slotNodes = new int[slots];
+        Arrays.fill(slotNodes, NIL);
+        this.slotMask = slots - 1;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * 최고 점수 반영
+     *
+     * @return 보관 중인 순위가 바뀌었으면 true (기존 기록 이하이거나 capacity 밖이면 false)
+     */
+    boolean submit(long userId, int score) {
+        int existing = findNode(userId);
+        if (existing != NIL) {
+            if (score <= scores[existing]) {
+                return false;
+            }
+            root = erase(root, scores[existing], userId);
+            removeSlot(userId);
+            release(existing);
+        } else if (freeCount == 0) {
+            int last = kth(size(root) - 1);
+            if (compare(score, userId, scores[last], userIds[last]) >= 0) {
+                return false;
+            }
+            long evicted = userIds[last];
+            root = erase(root, scores[last], evicted);
+            removeSlot(evicted);
+            release(last);
+        }
+
+        int node = allocate(userId, score);
+        putSlot(userId, node);
+        root = insert(root, node);
+        return true;
+    }
+
+    /**
+     * 보관 중인 점수 (없으면 null)
+     */
+    Integer scoreOf(long userId) {
+        int node = findNode(userId);
+        return node != NIL ? scores[node] : null;
+    }
+
+    /**
+     * 순위 조회 (1부터, 보관 중이 아니면 0)
+     */
+    int rankOf(long userId) {
+        int node = findNode(userId);
+        if (node == NIL) {
+            return 0;
+        }
+        int score = scores[node];
+        int rank = 0;
+        int t = root;
+        while (t != NIL) {
+            int c = compare(scores[t], userIds[t], score, userId);
+            if (c == 0) {
+                return rank + size(lefts[t]) + 1;
+            }
+            if (c > 0) {
+                t = lefts[t];
+            } else {
+                rank += size(lefts[t]) + 1;
+                t = rights[t];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 순위 구간을 userIds/scores 배열에 채움
+     *
+     * @param offset 0부터 시작하는 순위 오프셋
+     * @return 채운 항목 수
+     */
+    int range(int offset, int limit, long[] outUserIds, int[] outScores) {
+        int end = Math.min(size(root), offset + limit);
+        int count = 0;
+        for (int i = Math.max(offset, 0); i < end; i++) {
+            int node = kth(i);
+            outUserIds[count] = userIds[node];
+            outScores[count] = scores[node];
+            count++;
+        }
+        return count;
+    }
+
+    private int kth(int index) {
+        int t = root;
+        while (t != NIL) {
+            int leftSize = size(lefts[t]);
+            if (index < leftSize) {
+                t = lefts[t];
+            } else if (index == leftSize) {
+                return t;
+            } else {
+                index -= leftSize + 1;
+                t = rights[t];
+            }
+        }
+        throw new IndexOutOfBoundsException("index: " + index);
+    }
+
+    private int insert(int t, int node) {
+        if (t == NIL) {
+            return node;
+        }
+        if (priorities[node] > priorities[t]) {
+            split(t, scores[node], userIds[node]);
+            lefts[node] = splitLeft;
+            rights[node] = splitRight;
+            update(node);
+            return node;
+        }
+        if (compare(scores[node], userIds[node], scores[t], userIds[t]) < 0) {
+            lefts[t] = insert(lefts[t], node);
+        } else {
+            rights[t] = insert(rights[t], node);
+        }
+        update(t);
+        return t;
+    }
+
+    private int erase(int t, int score, long userId) {
+        if (t == NIL) {
+            return NIL;
+        }
+        int c = compare(scores[t], userIds[t], score, userId);
+        if (c == 0) {
+            return merge(lefts[t], rights[t]);
+        }
+        if (c > 0) {
+            lefts[t] = erase(lefts[t], score, userId);
+        } else {
+            rights[t] = erase(rights[t], score, userId);
+        }
+        update(t);
+        return t;
+    }
+
+    private int splitLeft;
+    private int splitRight;
+
+    /**
+     * 키보다 앞 순위인 노드(splitLeft)와 나머지(splitRight)로 분리
+     */
+    private void split(int t, int score, long userId) {
+        if (t == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+            return;
+        }
+        if (compare(scores[t], userIds[t], score, userId) < 0) {
+            split(rights[t], score, userId);
+            rights[t] = splitLeft;
+            update(t);
+            splitLeft = t;
+        } else {
+            split(lefts[t], score, userId);
+            lefts[t] = splitRight;
+            update(t);
+            splitRight = t;
+        }
+    }
+
+    private int merge(int a, int b) {
+        if (a == NIL) {
+            return b;
+        }
+        if (b == NIL) {
+            return a;
+        }
+        if (priorities[a] > priorities[b]) {
+            rights[a] = merge(rights[a], b);
+            update(a);
+            return a;
+        }
+        lefts[b] = merge(a, lefts[b]);
+        update(b);
+        return b;
+    }
+
+    private void update(int t) {
+        sizes[t] = size(lefts[t]) + size(rights[t]) + 1;
+    }
+
+    private int size(int t) {
+        return t == NIL ? 0 : sizes[t];
+    }
+
+    /**
+     * 점수 내림차순, 같은 점수는 userId 오름차순 (음수면 a가 앞 순위)
+     */
+    private static int compare(int scoreA, long userA, int scoreB, long userB) {
+        if (scoreA != scoreB) {
+            return scoreA > scoreB ? -1 : 1;
+        }
+        return Long.compare(userA, userB);
+    }
+
+    private int allocate(long userId, int score) {
+        int node = freeNodes[--freeCount];
+        userIds[node] = userId;
+        scores[node] = score;
+        priorities[node] = random.nextInt();
+        lefts[node] = NIL;
+        rights[node] = NIL;
+        sizes[node] = 1;
+        return node;
+    }
+
+    private void release(int node) {
+        freeNodes[freeCount++] = node;
+    }
+
+    private int slotOf(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & slotMask;
+    }
+
+    private int findNode(long userId) {
+        int slot = slotOf(userId);
+        while (slotNodes[slot] != NIL) {
+            if (slotKeys[slot] == userId) {
+                return slotNodes[slot];
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return NIL;
+    }
+
+    private void putSlot(long userId, int node) {
+        int slot = slotOf(userId);
+        while (slotNodes[slot] != NIL && slotKeys[slot] != userId) {
+            slot = (slot + 1) & slotMask;
+        }
+        slotKeys[slot] = userId;
+        slotNodes[slot] = node;
+    }
+
+    /**
+     * 선형 탐사 삭제 (뒤따르는 항목을 당겨 와 툼스톤 없이 유지)
+     */
+    private void removeSlot(long userId) {
+        int slot = slotOf(userId);
+        while (slotNodes[slot] != NIL && slotKeys[slot] != userId) {
+            slot = (slot + 1) & slotMask;
+        }
+        if (slotNodes[slot] == NIL) {
+            return;
+        }
+        slotNodes[slot] = NIL;
+
+        int next = (slot + 1) & slotMask;
+        while (slotNodes[next] != NIL) {
+            int home = slotOf(slotKeys[next]);
+            // home이 (slot, next] 구간 밖이면 비운 자리로 옮겨야 탐색이 끊기지 않음
+            boolean movable = slot <= next
+                    ? (home <= slot || home > next)
+                    : (home <= slot && home > next);
+            if (movable) {
+                slotKeys[slot] = slotKeys[next];
+                slotNodes[slot] = slotNodes[next];
+                slotNodes[next] = NIL;
+                slot = next;
+            }
+            next = (next + 1) & slotMask;
+        }
+    }
+}
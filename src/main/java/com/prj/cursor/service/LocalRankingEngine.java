@@ -0,0 +1,235 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.repository.GameBestScoreRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 인메모리 전체 기간 랭킹 (Redis 장애 시 대체 조회용)
+ *
+ * GameService가 Redis와 함께 점수를 반영하며, 게임 타입마다 {@link LeaderboardTree} 하나를 둡니다.
+ * 설정된 게임 타입({@link GameTypes})만 보관하며(DB에 남은 이전 게임 타입 포함 그 외는 무시),
+ * 메모리는 capacity × max-game-types 항목으로 제한되고 한도를 넘는 새 게임 타입은 보관하지 않습니다.
+ *
+ * 기동 후 game_best_scores 롤업으로 백그라운드에서 채우며(warm start),
+ * 채우는 동안 들어온 점수도 최고 점수 기준으로 합쳐지므로 순서와 관계없이 같은 결과가 됩니다.
+ * 다른 노드가 처리한 점수는 다음 기동 전까지 반영되지 않으므로 대체 조회 결과는 근사치입니다.
+ */
+@Component
+@Slf4j
+public class LocalRankingEngine {
+
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+
+    private final GameBestScoreRepository gameBestScoreRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final GameTypes gameTypes;
+
+    private final int capacity;
+
+    private final int maxGameTypes;
+
+    private volatile boolean warm;
+
+    private volatile boolean limitWarned;
+
+    public LocalRankingEngine(
+            GameBestScoreRepository gameBestScoreRepository,
+            TransactionTemplate transactionTemplate,
+            GameTypes gameTypes,
+            @Value("${game.ranking.local.capacity:10000}") int capacity,
+            @Value("${game.ranking.local.max-game-types:64}") int maxGameTypes) {
+        this.gameBestScoreRepository = gameBestScoreRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.gameTypes = gameTypes;
+        this.capacity = capacity;
+        this.maxGameTypes = maxGameTypes;
+    }
+
+    /**
+     * 기동 완료 후 백그라운드에서 DB의 최고 점수로 채움 (롤업 초기 적재 이후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void startWarmUp() {
+        Thread thread = new Thread(this::warmUp, "local-ranking-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void warmUp() {
+        long started = System.currentTimeMillis();
+        try {
+            Long rows = transactionTemplate.execute(status -> {
+                long count = 0;
+                try (Stream<Object[]> bestScores = gameBestScoreRepository.streamAllBestScores()) {
+                    for (Object[] row : (Iterable<Object[]>) bestScores::iterator) {
+                        submit((String) row[0], ((Number) row[1]).longValue(), ((Number) row[2]).intValue());
+                        count++;
+                    }
+                }
+                return count;
+            });
+            warm = true;
+            log.info("인메모리 랭킹 준비 완료: gameTypes={}, rows={}, elapsedMs={}",
+                    boards.size(), rows, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("인메모리 랭킹 준비 중 오류 발생, DB 대체 조회를 사용합니다.", e);
+        }
+    }
+
+    /**
+     * DB에서 채우기가 끝나 대체 조회에 사용할 수 있는지 여부
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * 최고 점수 반영
+     *
+     * @return 보관 중인 순위가 바뀌었으면 true (설정되지 않은 게임 타입이거나 게임 타입 한도를 넘으면 false)
+     */
+    public boolean submit(String gameType, long userId, int score) {
+        Board board = board(gameType);
+        if (board == null) {
+            return false;
+        }
+        board.lock.writeLock().lock();
+        try {
+            return board.tree.submit(userId, score);
+        } finally {
+            board.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 순위 구간 조회 (offset은 0부터)
+     */
+    public List<RankedScore> top(String gameType, int offset, int limit) {
+        Board board = boards.get(gameType);
+        if (board == null || limit <= 0) {
+            return List.of();
+        }
+        board.lock.readLock().lock();
+        try {
+            return range(board.tree, Math.max(offset, 0), limit);
+        } finally {
+            board.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 순위 조회 (1부터, 보관 중이 아니면 0)
+     */
+    public int rankOf(String gameType, long userId) {
+        Board board = boards.get(gameType);
+        if (board == null) {
+            return 0;
+        }
+        board.lock.readLock().lock();
+        try {
+            return board.tree.rankOf(userId);
+        } finally {
+            board.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 앞뒤 radius명을 포함한 순위 구간 (보관 중이 아니면 빈 목록)
+     */
+    public List<RankedScore> around(String gameType, long userId, int radius) {
+        Board board = boards.get(gameType);
+        if (board == null) {
+            return List.of();
+        }
+        board.lock.readLock().lock();
+        try {
+            int rank = board.tree.rankOf(userId);
+            if (rank == 0) {
+                return List.of();
+            }
+            int offset = Math.max(rank - 1 - radius, 0);
+            return range(board.tree, offset, rank - offset + radius);
+        } finally {
+            board.lock.readLock().unlock();
+        }
+    }
+
+    private List<RankedScore> range(LeaderboardTree tree, int offset, int limit) {
+        int size = Math.max(Math.min(limit, tree.size() - offset), 0);
+        long[] userIds = new long[size];
+        int[] scores = new int[size];
+        int count = tree.range(offset, size, userIds, scores);
+
+        List<RankedScore> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new RankedScore(userIds[i], scores[i], offset + i + 1));
+        }
+        return result;
+    }
+
+    private Board board(String gameType) {
+        Board board = boards.get(gameType);
+        if (board != null) {
+            return board;
+        }
+        if (!gameTypes.isKnown(gameType)) {
+            log.debug("설정되지 않은 게임 타입은 인메모리 랭킹에 보관하지 않음: gameType={}", gameType);
+            return null;
+        }
+        if (boards.size() >= maxGameTypes) {
+            if (!limitWarned) {
+                limitWarned = true;
+                log.warn("인메모리 랭킹 게임 타입 한도 초과로 보관하지 않음 (game.ranking.local.max-game-types 확인 필요): gameType={}, maxGameTypes={}",
+                        gameType, maxGameTypes);
+            } else {
+                log.debug("인메모리 랭킹 게임 타입 한도 초과로 보관하지 않음: gameType={}", gameType);
+            }
+            return null;
+        }
+        return boards.computeIfAbsent(gameType, key -> new Board(capacity));
+    }
+
+    private static final class Board {
+        private final LeaderboardTree tree;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private Board(int capacity) {
+            this.tree = new LeaderboardTree(capacity);
+        }
+    }
+
+    /**
+     * 순위가 매겨진 점수
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class RankedScore {
+
+        private final long userId;
+
+        private final int score;
+
+        /**
+         * 1부터 시작하는 순위
+         */
+        private final int rank;
+    }
+}
@@ -0,0 +1,36 @@
+package com.prj.cursor.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prj.cursor.dto.RankingUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로컬 브로커로만 랭킹 프레임 전송 (단일 노드, 기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "game.ranking.fanout.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalRankingFramePublisher implements RankingFramePublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<RankingUpdate> frames) {
+        for (RankingUpdate frame : frames) {
+            try {
+                RankingFramePublisher.sendEncoded(messagingTemplate, frame.getGameType(), objectMapper.writeValueAsBytes(frame));
+            } catch (Exception e) {
+                log.error("랭킹 프레임 전송 실패: gameType={}", frame.getGameType(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.entity.User;
+import com.prj.cursor.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 랭킹 멤버(userId) → 닉네임 변환
+ *
+ * 로컬 캐시에서 먼저 찾고, 없는 userId만 모아 닉네임 해시에 HMGET 1회로 조회합니다.
+ * 해시에도 없으면 (이전 형식에서 넘어온 사용자 등) users 테이블에서 한 번에 조회합니다.
+ *
+ * 로컬 캐시는 max-size를 넘으면 비우고 다시 채웁니다. 닉네임이 바뀌면 다음 점수 제출 시
+ * {@link #remember(long, String)}로 갱신됩니다.
+ */
+@Component
+@Slf4j
+public class NicknameResolver {
+
+    private final Map<Long, String> localCache = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final UserRepository userRepository;
+
+    private final int maxSize;
+
+    public NicknameResolver(
+            StringRedisTemplate stringRedisTemplate,
+            UserRepository userRepository,
+            @Value("${game.ranking.nickname-cache.max-size:100000}") int maxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 점수 제출 시점의 닉네임을 로컬 캐시에 반영
+     */
+    public void remember(long userId, String nickname) {
+        if (nickname == null) {
+            return;
+        }
+        if (localCache.size() >= maxSize && !localCache.containsKey(userId)) {
+            localCache.clear();
+            log.debug("닉네임 로컬 캐시 초기화: maxSize={}", maxSize);
+        }
+        localCache.put(userId, nickname);
+    }
+
+    /**
+     * 여러 userId의 닉네임 일괄 조회
+     *
+     * @return userId별 닉네임 (어디에서도 찾지 못한 userId는 포함되지 않음)
+     */
+    public Map<Long, String> resolve(Collection<Long> userIds) {
+        Map<Long, String> result = new HashMap<>(userIds.size() * 2);
+        List<Long> missing = new ArrayList<>();
+
+        for (Long userId : userIds) {
+            String nickname = localCache.get(userId);
+            if (nickname != null) {
+                result.put(userId, nickname);
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            missing = resolveFromRedis(missing, result);
+        }
+        if (!missing.isEmpty()) {
+            resolveFromDatabase(missing, result);
+        }
+        return result;
+    }
+
+    /**
+     * 닉네임 해시에서 조회 (HMGET 1회)
+     *
+     * @return 해시에서도 찾지 못한 userId
+     */
+    private List<Long> resolveFromRedis(List<Long> userIds, Map<Long, String> result) {
+        List<Object> fields = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            fields.add(Long.toString(userId));
+        }
+
+        try {
+            List<Object> nicknames = stringRedisTemplate.opsForHash()
+                    .multiGet(RedisRankingStore.NICKNAMES_KEY, fields);
+
+            List<Long> stillMissing = new ArrayList<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                Object nickname = nicknames != null ? nicknames.get(i) : null;
+                if (nickname != null) {
+                    result.put(userIds.get(i), (String) nickname);
+                    remember(userIds.get(i), (String) nickname);
+                } else {
+                    stillMissing.add(userIds.get(i));
+                }
+            }
+            return stillMissing;
+
+        } catch (Exception e) {
+            log.warn("Redis 닉네임 조회 실패, DB에서 조회합니다: count={}, error={}", userIds.size(), e.getMessage());
+            return userIds;
+        }
+    }
+
+    private void resolveFromDatabase(List<Long> userIds, Map<Long, String> result) {
+        try {
+            for (User user : userRepository.findAllById(userIds)) {
+                result.put(user.getUserNo(), user.getNickname());
+                remember(user.getUserNo(), user.getNickname());
+            }
+        } catch (Exception e) {
+            log.error("DB 닉네임 조회 중 오류 발생: count={}", userIds.size(), e);
+        }
+    }
+}
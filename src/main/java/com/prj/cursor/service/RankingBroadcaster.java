@@ -0,0 +1,181 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.RankingEntry;
+import com.prj.cursor.dto.RankingUpdate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임별 실시간 랭킹 브로드캐스트 스케줄러
+ * 
+ * 점수가 반영될 때마다 바로 전송하지 않고, 변경된 게임 타입만 표시해 두었다가
+ * window 주기마다 게임 타입당 최대 한 프레임을 보냅니다.
+ * 프레임은 이전에 보낸 랭킹과 비교해 바뀐 순위만 담은 DELTA이며,
+ * full-snapshot-interval 프레임마다 한 번은 전체 랭킹(SNAPSHOT)을 보냅니다.
+ * 현재 랭킹은 HTTP 조회와 같은 {@link RankingSnapshotStore}에서 읽습니다.
+ */
+@Component
+@Slf4j
+public class RankingBroadcaster {
+    
+    private final RankingSnapshotStore snapshotStore;
+    private final RankingFramePublisher framePublisher;
+    private final long windowMillis;
+    private final int fullSnapshotInterval;
+    
+    private final Set<String> dirtyGameTypes = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * 게임별 마지막 전송 상태 (스케줄러 스레드에서만 접근)
+     */
+    private final Map<String, BroadcastState> states = new ConcurrentHashMap<>();
+    
+    private ScheduledExecutorService scheduler;
+    
+    public RankingBroadcaster(
+            RankingSnapshotStore snapshotStore,
+            RankingFramePublisher framePublisher,
+            @Value("${game.ranking.broadcast.window:100ms}") Duration window,
+            @Value("${game.ranking.broadcast.full-snapshot-interval:50}") int fullSnapshotInterval) {
+        this.snapshotStore = snapshotStore;
+        this.framePublisher = framePublisher;
+        this.windowMillis = window.toMillis();
+        this.fullSnapshotInterval = fullSnapshotInterval;
+    }
+    
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ranking-broadcaster");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+    }
+    
+    /**
+     * 랭킹 변경 알림 - 다음 window에 한 번 전송됩니다.
+     */
+    public void requestBroadcast(String gameType) {
+        dirtyGameTypes.add(gameType);
+    }
+    
+    @EventListener
+    public void onRankingChanged(RankingChangedEvent event) {
+        requestBroadcast(event.getGameType());
+    }
+    
+    /**
+     * 변경된 게임 타입의 프레임 전송 (window 주기마다 호출)
+     * 
+     * 이번 window에 만든 프레임은 {@link RankingFramePublisher}에 한 번에 넘깁니다.
+     */
+    void flush() {
+        List<RankingUpdate> frames = new ArrayList<>();
+        Iterator<String> iterator = dirtyGameTypes.iterator();
+        while (iterator.hasNext()) {
+            String gameType = iterator.next();
+            iterator.remove();
+            
+            try {
+                RankingUpdate frame = buildFrame(gameType);
+                if (frame != null) {
+                    frames.add(frame);
+                }
+            } catch (Exception e) {
+                log.error("랭킹 브로드캐스트 중 오류 발생: gameType={}", gameType, e);
+            }
+        }
+        
+        if (frames.isEmpty()) {
+            return;
+        }
+        try {
+            framePublisher.publish(frames);
+            log.debug("실시간 랭킹 전송 완료: frames={}", frames.size());
+        } catch (Exception e) {
+            log.error("랭킹 프레임 전송 중 오류 발생: frames={}", frames.size(), e);
+        }
+    }
+    
+    /**
+     * 게임 타입의 다음 프레임 생성 (랭킹이 바뀌지 않았으면 null)
+     */
+    private RankingUpdate buildFrame(String gameType) {
+        List<RankingEntry> current = snapshotStore.current(gameType).getEntries();
+        BroadcastState state = states.computeIfAbsent(gameType, key -> new BroadcastState());
+        
+        RankingUpdate update;
+        if (state.previous == null || state.framesSinceSnapshot >= fullSnapshotInterval) {
+            update = RankingUpdate.builder()
+                    .type(RankingUpdate.Type.SNAPSHOT)
+                    .entries(current)
+                    .build();
+            state.framesSinceSnapshot = 0;
+        } else {
+            List<RankingEntry> changed = diff(state.previous, current);
+            if (changed.isEmpty() && state.previous.size() == current.size()) {
+                return null;
+            }
+            update = RankingUpdate.builder()
+                    .type(RankingUpdate.Type.DELTA)
+                    .entries(changed)
+                    .build();
+            state.framesSinceSnapshot++;
+        }
+        
+        update.setGameType(gameType);
+        update.setSequence(++state.sequence);
+        update.setSize(current.size());
+        state.previous = current;
+        return update;
+    }
+    
+    /**
+     * 같은 순위에서 사용자, 닉네임, 점수 중 하나라도 바뀐 항목만 추출
+     */
+    static List<RankingEntry> diff(List<RankingEntry> previous, List<RankingEntry> current) {
+        List<RankingEntry> changed = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            RankingEntry entry = current.get(i);
+            if (i >= previous.size()) {
+                changed.add(entry);
+                continue;
+            }
+            RankingEntry before = previous.get(i);
+            if (!Objects.equals(before.getUserId(), entry.getUserId())
+                    || !Objects.equals(before.getNickname(), entry.getNickname()) 
+                    || !Objects.equals(before.getScore(), entry.getScore())) {
+                changed.add(entry);
+            }
+        }
+        return changed;
+    }
+    
+    private static final class BroadcastState {
+        private List<RankingEntry> previous;
+        private long sequence;
+        private int framesSinceSnapshot;
+    }
+}
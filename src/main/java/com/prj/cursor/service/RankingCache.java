@@ -0,0 +1,177 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.RankingEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임별 상위 N위 랭킹 인메모리 캐시
+ *
+ * 랭킹은 점수가 들어올 때만 바뀌므로, 게임 타입마다 버전 번호를 두고
+ * 점수 반영 시 {@link #bumpVersion(String)}으로 버전을 올립니다.
+ * 캐시 엔트리는 적재 당시의 버전을 기억하며, 현재 버전과 다르면 무효로 취급합니다.
+ *
+ * 버전은 이 노드에서 반영된 점수만 알기 때문에, 다른 노드에서 반영된 점수도 ttl 안에 보이도록
+ * 엔트리는 적재 후 ttl이 지나면 만료됩니다. (클러스터 모드에서는 다른 노드의 프레임 수신 시에도 버전을 올립니다)
+ *
+ * 버전과 엔트리는 설정된 게임 타입({@link GameTypes})만 보관하므로 임의의 게임 타입으로 늘어나지 않습니다.
+ * 엔트리는 max-game-types로 한 번 더 제한되며, 일정 시간 조회되지 않은 게임 타입은 새 엔트리를 적재할 때 정리됩니다.
+ * 버전은 정리하지 않으므로 정리 전에 읽은 버전으로는 다시 적재되지 않습니다.
+ */
+@Component
+@Slf4j
+public class RankingCache {
+
+    /**
+     * 버전 발급용 전역 시퀀스 (게임 타입이 정리된 뒤에도 버전이 재사용되지 않도록)
+     */
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final GameTypes gameTypes;
+
+    private final int topN;
+
+    private final int maxGameTypes;
+
+    private final long idleTimeoutMillis;
+
+    private final long ttlMillis;
+
+    public RankingCache(
+            GameTypes gameTypes,
+            @Value("${game.ranking.cache.top-n:100}") int topN,
+            @Value("${game.ranking.cache.max-game-types:64}") int maxGameTypes,
+            @Value("${game.ranking.cache.idle-timeout:10m}") Duration idleTimeout,
+            @Value("${game.ranking.cache.ttl:5s}") Duration ttl) {
+        this.gameTypes = gameTypes;
+        this.topN = topN;
+        this.maxGameTypes = maxGameTypes;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * 캐시가 보관하는 게임별 최대 순위 수
+     */
+    public int getTopN() {
+        return topN;
+    }
+
+    /**
+     * 적재 후 엔트리가 유효한 시간 (밀리초)
+     */
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    /**
+     * 현재 랭킹 버전 조회 (점수가 한 번도 반영되지 않았으면 0)
+     */
+    public long currentVersion(String gameType) {
+        return versions.getOrDefault(gameType, 0L);
+    }
+
+    /**
+     * 랭킹 버전 증가 - 해당 게임의 캐시 엔트리를 무효화합니다.
+     *
+     * @return 새 버전, 설정되지 않은 게임 타입이면 0 (캐시하지 않으므로 무효화할 엔트리도 없음)
+     */
+    public long bumpVersion(String gameType) {
+        if (!gameTypes.isKnown(gameType)) {
+            return 0L;
+        }
+        long version = versionSequence.incrementAndGet();
+        versions.put(gameType, version);
+        return version;
+    }
+
+    /**
+     * 캐시된 랭킹 구간 조회
+     *
+     * @return 유효한 엔트리가 요청 구간을 포함하면 해당 구간, 아니면 null (버전이 바뀌었거나 ttl이 지난 경우)
+     */
+    public List<RankingEntry> get(String gameType, int offset, int limit) {
+        if (offset + limit > topN) {
+            return null;
+        }
+
+        Entry entry = entries.get(gameType);
+        long now = System.currentTimeMillis();
+        if (entry == null || entry.version != currentVersion(gameType) || now - entry.loadedAtMillis >= ttlMillis) {
+            return null;
+        }
+        entry.lastAccessMillis = now;
+
+        List<RankingEntry> rankings = entry.rankings;
+        if (offset == 0 && limit >= rankings.size()) {
+            return rankings;
+        }
+        if (offset >= rankings.size()) {
+            return List.of();
+        }
+        return rankings.subList(offset, Math.min(offset + limit, rankings.size()));
+    }
+
+    /**
+     * 상위 N위 랭킹 적재 (Redis에서 읽은 결과만, 대체 경로의 결과는 적재하지 않음)
+     *
+     * 설정되지 않은 게임 타입은 적재하지 않습니다.
+     *
+     * @param version 적재를 시작하기 전에 읽은 버전 ({@link #currentVersion(String)})
+     * @param rankings 1위부터의 랭킹 목록
+     */
+    public void put(String gameType, long version, List<RankingEntry> rankings) {
+        if (!gameTypes.isKnown(gameType) || version != currentVersion(gameType)) {
+            // 설정되지 않은 게임 타입이거나 적재 도중 점수가 반영됨
+            return;
+        }
+        entries.put(gameType, new Entry(version, List.copyOf(rankings)));
+
+        if (entries.size() > maxGameTypes) {
+            evictIdleEntries();
+        }
+    }
+
+    /**
+     * 오래 조회되지 않은 게임 타입 정리
+     *
+     * 유휴 엔트리를 먼저 제거하고, 그래도 한도를 넘으면 가장 오래 조회되지 않은 엔트리를 제거합니다.
+     */
+    private void evictIdleEntries() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> now - e.getValue().lastAccessMillis > idleTimeoutMillis);
+
+        while (entries.size() > maxGameTypes) {
+            entries.entrySet().stream()
+                    .min((a, b) -> Long.compare(a.getValue().lastAccessMillis, b.getValue().lastAccessMillis))
+                    .ifPresent(e -> entries.remove(e.getKey(), e.getValue()));
+        }
+
+        log.debug("랭킹 캐시 정리 완료: gameTypes={}", entries.size());
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final List<RankingEntry> rankings;
+        private final long loadedAtMillis;
+        private volatile long lastAccessMillis;
+
+        private Entry(long version, List<RankingEntry> rankings) {
+            this.version = version;
+            this.rankings = rankings;
+            this.loadedAtMillis = System.currentTimeMillis();
+            this.lastAccessMillis = loadedAtMillis;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.prj.cursor.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 랭킹 변경 이벤트
+ * 
+ * GameService가 Redis 랭킹을 갱신한 뒤 발행하며, {@link RankingBroadcaster}가 받아 전송을 예약합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RankingChangedEvent {
+    
+    private final String gameType;
+}
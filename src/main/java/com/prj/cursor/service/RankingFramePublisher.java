@@ -0,0 +1,43 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.RankingUpdate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * 실시간 랭킹 프레임 전송 경로
+ *
+ * {@link RankingBroadcaster}가 window마다 한 번, 그 window에 만든 프레임을 모아 호출합니다.
+ * 단일 노드는 로컬 브로커로 바로 보내고({@link LocalRankingFramePublisher}),
+ * 클러스터 모드에서는 Redis pub/sub으로 다른 노드에도 전달합니다({@link RedisRankingFanout}).
+ * 프레임은 만들어질 때 한 번만 JSON으로 인코딩하고, 브로커에는 인코딩된 바이트를 그대로 넘깁니다.
+ */
+public interface RankingFramePublisher {
+
+    /**
+     * 한 window에서 만든 프레임 전송
+     */
+    void publish(List<RankingUpdate> frames);
+
+    /**
+     * 게임별 랭킹 프레임 목적지
+     */
+    static String destination(String gameType) {
+        return "/topic/rankings/" + gameType;
+    }
+
+    /**
+     * 인코딩된 JSON 프레임을 메시지 변환 없이 로컬 브로커로 전송
+     */
+    static void sendEncoded(SimpMessagingTemplate messagingTemplate, String gameType, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination(gameType), MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.prj.cursor.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 랭킹 키 비어 있음 이벤트
+ * 
+ * GameService가 Redis 랭킹 1위부터 조회했는데 비어 있을 때 발행하며,
+ * {@link LeaderboardRebuildService}가 받아 game_scores에서 재구성을 예약합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RankingMissingEvent {
+    
+    private final String gameType;
+    
+    private final RankingWindow window;
+}
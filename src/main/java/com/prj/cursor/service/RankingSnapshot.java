@@ -0,0 +1,87 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.RankingEntry;
+
+import java.util.List;
+
+/**
+ * 게임별 상위 랭킹의 직렬화된 스냅샷
+ *
+ * 랭킹 목록과 그 JSON 인코딩(body), 내용 기반 ETag를 함께 보관합니다.
+ * 랭킹이 바뀔 때 한 번만 인코딩하고, HTTP 응답은 body를 그대로 내려보냅니다.
+ * ETag는 순위를 이루는 값(순위, userId, 닉네임, 점수)의 해시이므로 노드가 달라도 같은 랭킹이면 같은 값입니다.
+ * (조회 시각인 playedAt은 제외)
+ */
+public final class RankingSnapshot {
+
+    private final String gameType;
+    private final long version;
+    private final List<RankingEntry> entries;
+    private final byte[] body;
+    private final String etag;
+    private final long createdAtMillis;
+
+    RankingSnapshot(String gameType, long version, List<RankingEntry> entries, byte[] body, String etag) {
+        this.gameType = gameType;
+        this.version = version;
+        this.entries = List.copyOf(entries);
+        this.body = body;
+        this.etag = etag;
+        this.createdAtMillis = System.currentTimeMillis();
+    }
+
+    public String getGameType() {
+        return gameType;
+    }
+
+    /**
+     * 스냅샷을 만들 때 읽은 {@link RankingCache} 버전
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 스냅샷을 만든 시각 (epoch 밀리초)
+     */
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public List<RankingEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * entries의 JSON 인코딩 (호출 측에서 수정하면 안 됩니다)
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * 따옴표를 포함한 강한 ETag (예: "3f2a...")
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * If-None-Match 헤더 값이 현재 스냅샷과 일치하는지 여부 (목록, 약한 ETag, * 지원)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,113 @@
+package com.prj.cursor.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prj.cursor.dto.RankingEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임별 상위 랭킹 스냅샷 보관
+ *
+ * {@link RankingCache}의 버전이 바뀌었을 때(점수 반영, 재구성)만 랭킹을 다시 읽어 인코딩하므로,
+ * HTTP 폴링과 STOMP 브로드캐스트가 아무리 많아도 직렬화는 랭킹이 바뀔 때마다 한 번입니다.
+ * 버전은 이 노드에서 반영된 점수만 알기 때문에, 스냅샷도 RankingCache와 같은 ttl이 지나면 다시 만듭니다.
+ * (클러스터 모드에서는 다른 노드의 프레임을 받을 때도 버전이 올라 바로 무효화됩니다)
+ * 게임 타입 수는 RankingCache와 같은 max-game-types로 제한되며, 한도를 넘으면 보관하지 않고 매번 만듭니다.
+ */
+@Component
+@Slf4j
+public class RankingSnapshotStore {
+
+    private final Map<String, RankingSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final GameService gameService;
+
+    private final RankingCache rankingCache;
+
+    private final ObjectMapper objectMapper;
+
+    private final int size;
+
+    private final int maxGameTypes;
+
+    public RankingSnapshotStore(
+            GameService gameService,
+            RankingCache rankingCache,
+            ObjectMapper objectMapper,
+            @Value("${game.ranking.broadcast.size:10}") int size,
+            @Value("${game.ranking.cache.max-game-types:64}") int maxGameTypes) {
+        this.gameService = gameService;
+        this.rankingCache = rankingCache;
+        this.objectMapper = objectMapper;
+        this.size = size;
+        this.maxGameTypes = maxGameTypes;
+    }
+
+    /**
+     * 스냅샷이 담는 순위 수 (전체 기간 랭킹 1위부터)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 현재 스냅샷 조회 (랭킹 버전이 바뀌었거나 ttl이 지났으면 다시 만듦)
+     */
+    public RankingSnapshot current(String gameType) {
+        long version = rankingCache.currentVersion(gameType);
+        RankingSnapshot snapshot = snapshots.get(gameType);
+        if (snapshot != null && isFresh(snapshot, version)) {
+            return snapshot;
+        }
+
+        RankingSnapshot created = create(gameType, version, gameService.getTopRankings(gameType, size));
+        if (snapshots.size() >= maxGameTypes && !snapshots.containsKey(gameType)) {
+            snapshots.values().removeIf(s -> !isFresh(s, rankingCache.currentVersion(s.getGameType())));
+            if (snapshots.size() >= maxGameTypes) {
+                log.debug("랭킹 스냅샷 게임 타입 한도 초과로 보관하지 않음: gameType={}", gameType);
+                return created;
+            }
+        }
+        // 더 늦게 읽은 버전의 스냅샷이 이미 있으면 덮어쓰지 않음
+        return snapshots.merge(gameType, created,
+                (existing, candidate) -> candidate.getVersion() >= existing.getVersion() ? candidate : existing);
+    }
+
+    private boolean isFresh(RankingSnapshot snapshot, long version) {
+        return snapshot.getVersion() == version
+                && System.currentTimeMillis() - snapshot.getCreatedAtMillis() < rankingCache.getTtlMillis();
+    }
+
+    private RankingSnapshot create(String gameType, long version, List<RankingEntry> entries) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(entries);
+            return new RankingSnapshot(gameType, version, entries, body, etagOf(entries));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("랭킹 스냅샷 직렬화 실패: gameType=" + gameType, e);
+        }
+    }
+
+    /**
+     * 순위를 이루는 값(순위, userId, 닉네임, 점수)만으로 ETag 계산
+     *
+     * playedAt은 조회 시각으로 채워져 스냅샷을 만들 때마다 바뀌므로 해시에서 제외합니다.
+     */
+    static String etagOf(List<RankingEntry> entries) {
+        StringBuilder content = new StringBuilder();
+        for (RankingEntry entry : entries) {
+            content.append(entry.getRank()).append('\t')
+                    .append(entry.getUserId()).append('\t')
+                    .append(entry.getNickname()).append('\t')
+                    .append(entry.getScore()).append('\n');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,83 @@
+package com.prj.cursor.service;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * 랭킹 집계 기간
+ *
+ * DAILY/WEEKLY는 기간마다 별도의 Redis 키(leaderboard:{gameType}:daily:2026-10-16 등)를 쓰며,
+ * 키는 기간이 끝난 뒤 유예 시간이 지나면 TTL로 만료됩니다. 주간은 월요일에 시작합니다.
+ * ALL_TIME은 만료되지 않는 leaderboard:{gameType} 키를 사용합니다.
+ */
+public enum RankingWindow {
+
+    DAILY("daily"),
+    WEEKLY("weekly"),
+    ALL_TIME("all-time");
+
+    private final String value;
+
+    RankingWindow(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 요청 파라미터 값으로 변환 (daily, weekly, all-time / 대소문자 무시)
+     */
+    public static RankingWindow from(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL_TIME;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT).replace('_', '-');
+        for (RankingWindow window : values()) {
+            if (window.value.equals(normalized)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 랭킹 기간입니다: " + value);
+    }
+
+    /**
+     * 시각이 속한 기간의 시작 (ALL_TIME은 null)
+     */
+    public ZonedDateTime start(Instant at, ZoneId zone) {
+        ZonedDateTime today = at.atZone(zone).toLocalDate().atStartOfDay(zone);
+        return switch (this) {
+            case DAILY -> today;
+            case WEEKLY -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case ALL_TIME -> null;
+        };
+    }
+
+    /**
+     * 시각이 속한 기간의 끝 (ALL_TIME은 null)
+     */
+    public ZonedDateTime end(Instant at, ZoneId zone) {
+        return switch (this) {
+            case DAILY -> start(at, zone).plusDays(1);
+            case WEEKLY -> start(at, zone).plusWeeks(1);
+            case ALL_TIME -> null;
+        };
+    }
+
+    /**
+     * 시각이 속한 기간의 Redis 키
+     */
+    public String key(String gameType, Instant at, ZoneId zone) {
+        if (this == ALL_TIME) {
+            return "leaderboard:" + gameType;
+        }
+        return "leaderboard:" + gameType + ":" + value + ":"
+                + DateTimeFormatter.ISO_LOCAL_DATE.format(start(at, zone));
+    }
+}
@@ -0,0 +1,187 @@
+package com.prj.cursor.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prj.cursor.dto.RankingUpdate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 클러스터 모드 랭킹 프레임 전송 (game.ranking.fanout.enabled=true)
+ *
+ * 각 노드의 STOMP 심플 브로커는 자기 노드에 연결된 클라이언트에게만 전달하므로,
+ * 프레임을 로컬 브로커로 보내는 동시에 Redis 채널로 발행해 다른 노드의 로컬 브로커에도 전달합니다.
+ *
+ * - 배치: 브로드캐스터의 window 하나에서 만든 프레임은 메시지 하나로 발행합니다 (노드당 window마다 최대 1건).
+ * - 인코딩: 프레임은 발행한 노드에서 한 번만 JSON으로 인코딩하며, 받는 노드는 그 문자열을 그대로 브로커에 넘깁니다.
+ * - 중복 제거: 자기 노드가 발행한 메시지는 무시하고, 프레임 ID(origin:게임:순번)를 최근 recent-ids개까지 기억해
+ *   같은 프레임이 다시 도착해도 한 번만 전달합니다.
+ *
+ * 순번은 프로세스마다 0부터 다시 매겨지므로, origin은 설정된 노드 ID(node-id, 표시용)에 기동할 때마다 새로 만드는 값을 붙입니다.
+ * 같은 node-id로 재시작한 노드의 프레임이 재시작 전 프레임 ID와 겹쳐 중복으로 버려지지 않습니다.
+ * 클라이언트도 origin별로 순번과 기준 랭킹을 관리하므로, 재시작한 노드의 프레임은 새 기준 랭킹부터 적용합니다.
+ *
+ * 다른 노드의 프레임은 그 노드에서 랭킹이 바뀌었다는 뜻이므로, 받은 게임의 {@link RankingCache} 버전을 올려
+ * 이 노드의 랭킹 캐시와 스냅샷({@link RankingSnapshotStore})을 무효화합니다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "game.ranking.fanout.enabled", havingValue = "true")
+public class RedisRankingFanout implements RankingFramePublisher, MessageListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RankingCache rankingCache;
+    private final String channel;
+    private final String nodeId;
+    private final String origin;
+    private final Map<String, Boolean> recentFrameIds;
+
+    public RedisRankingFanout(
+            SimpMessagingTemplate messagingTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            RankingCache rankingCache,
+            @Value("${game.ranking.fanout.channel:ranking-frames}") String channel,
+            @Value("${game.ranking.fanout.node-id:}") String nodeId,
+            @Value("${game.ranking.fanout.recent-ids:4096}") int recentIds) {
+        this.messagingTemplate = messagingTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.rankingCache = rankingCache;
+        this.channel = channel;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? "node" : nodeId;
+        this.origin = this.nodeId + "@" + UUID.randomUUID();
+        this.recentFrameIds = new LinkedHashMap<>(recentIds * 2, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > recentIds;
+            }
+        };
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * 설정된 노드 ID (표시용, 없으면 "node")
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 이 프로세스가 발행하는 프레임의 origin (노드 ID@기동마다 새로 만드는 값)
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    @Override
+    public void publish(List<RankingUpdate> frames) {
+        if (frames.isEmpty()) {
+            return;
+        }
+        List<EncodedFrame> encodedFrames = new ArrayList<>(frames.size());
+        for (RankingUpdate frame : frames) {
+            frame.setOrigin(origin);
+            try {
+                EncodedFrame encoded = new EncodedFrame(
+                        frame.getGameType(), frame.getSequence(), objectMapper.writeValueAsString(frame));
+                encodedFrames.add(encoded);
+                deliver(origin, encoded);
+            } catch (Exception e) {
+                log.error("랭킹 프레임 인코딩 실패: gameType={}", frame.getGameType(), e);
+            }
+        }
+        if (encodedFrames.isEmpty()) {
+            return;
+        }
+
+        try {
+            String payload = objectMapper.writeValueAsString(new FanoutBatch(origin, encodedFrames));
+            stringRedisTemplate.convertAndSend(channel, payload);
+        } catch (Exception e) {
+            log.error("랭킹 프레임 클러스터 발행 실패: frames={}", encodedFrames.size(), e);
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 프레임 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            FanoutBatch batch = objectMapper.readValue(message.getBody(), FanoutBatch.class);
+            if (origin.equals(batch.getOrigin())) {
+                return;
+            }
+            for (EncodedFrame frame : batch.getFrames()) {
+                if (deliver(batch.getOrigin(), frame)) {
+                    // 다른 노드에서 반영된 점수 - 이 노드의 캐시와 스냅샷 무효화
+                    rankingCache.bumpVersion(frame.getGameType());
+                }
+            }
+        } catch (Exception e) {
+            log.error("랭킹 프레임 클러스터 수신 처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 처음 보는 프레임만 로컬 브로커로 전달
+     *
+     * @return 전달했으면 true, 이미 전달한 프레임이면 false
+     */
+    private boolean deliver(String origin, EncodedFrame frame) {
+        String frameId = origin + ":" + frame.getGameType() + ":" + frame.getSequence();
+        synchronized (recentFrameIds) {
+            if (recentFrameIds.putIfAbsent(frameId, Boolean.TRUE) != null) {
+                log.debug("중복 랭킹 프레임 무시: {}", frameId);
+                return false;
+            }
+        }
+        RankingFramePublisher.sendEncoded(
+                messagingTemplate, frame.getGameType(), frame.getPayload().getBytes(StandardCharsets.UTF_8));
+        return true;
+    }
+
+    /**
+     * 노드 하나가 window 하나에서 발행한 프레임 묶음
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FanoutBatch {
+        private String origin;
+        private List<EncodedFrame> frames;
+    }
+
+    /**
+     * 인코딩된 프레임 (gameType/sequence는 목적지와 중복 제거용)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EncodedFrame {
+        private String gameType;
+        private long sequence;
+        private String payload;
+    }
+}
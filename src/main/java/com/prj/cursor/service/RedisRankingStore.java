@@ -0,0 +1,407 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.ScoreEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Redis 랭킹 ZSET 저장소
+ *
+ * 점수 반영은 서버 측 Lua 스크립트로 "최고 점수만 유지 → 보관 인원으로 정리 → 순위 조회"를
+ * 한 번의 왕복으로 원자적으로 처리합니다. 낮은 점수가 개인 최고 기록을 덮어쓰지 않습니다.
+ *
+ * 랭킹 멤버는 닉네임 대신 userId 숫자 문자열이며, 키와 값 모두 StringRedisSerializer로 저장합니다.
+ * (JSON 따옴표와 타입 정보가 없어 엔트리당 메모리가 줄고, 닉네임을 바꿔도 기록이 유지됩니다)
+ * 닉네임은 같은 스크립트에서 {@link #NICKNAMES_KEY} 해시에 함께 기록하며 {@link NicknameResolver}가 조회합니다.
+ *
+ * 점수 하나는 같은 스크립트 안에서 모든 {@link RankingWindow}의 키에 반영되며,
+ * 기간 키는 기간 종료 + 유예 시간(game.ranking.window.grace)에 만료되도록 PEXPIREAT을 설정합니다.
+ * 반환하는 갱신 여부와 순위는 전체 기간(ALL_TIME) 기준입니다.
+ */
+@Component
+@Slf4j
+public class RedisRankingStore {
+
+    /**
+     * userId → 닉네임 해시 (랭킹 키 leaderboard:{gameType}와 겹치지 않도록 별도 접두사 사용)
+     */
+    static final String NICKNAMES_KEY = "leaderboard-meta:nicknames";
+
+    /**
+     * KEYS[1]: 닉네임 해시, KEYS[2]: 전체 기간 랭킹 키, KEYS[3..]: 기간 랭킹 키
+     * ARGV[1]: userId, ARGV[2]: 점수, ARGV[3]: 보관 인원, ARGV[4]: 닉네임, ARGV[i + 2]: KEYS[i]의 만료 시각(ms)
+     * 반환: {전체 기간 최고 기록 갱신 여부(1/0), 전체 기간 순위(1부터, 보관 인원 밖이면 0)}
+     */
+    private static final RedisScript<List> KEEP_BEST_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[4])
+            local improved = 0
+            for i = 2, #KEYS do
+                local current = redis.call('ZSCORE', KEYS[i], ARGV[1])
+                if (not current) or tonumber(ARGV[2]) > tonumber(current) then
+                    redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1])
+                    if i == 2 then
+                        improved = 1
+                    end
+                end
+                redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[3]) + 1))
+                if i > 2 then
+                    redis.call('PEXPIREAT', KEYS[i], ARGV[i + 2])
+                end
+            end
+            local rank = redis.call('ZREVRANK', KEYS[2], ARGV[1])
+            if rank then
+                return {improved, rank + 1}
+            end
+            return {improved, 0}
+            """, List.class);
+
+    /**
+     * KEYS[1]: 닉네임 해시, KEYS[2..]: 랭킹 키
+     * ARGV[1]: 보관 인원, ARGV[i]: KEYS[i]의 만료 시각(ms, 0이면 만료 없음)
+     * ARGV[#KEYS + 1..]: (KEYS 인덱스, userId, 점수, 닉네임) 묶음 - 닉네임이 빈 문자열이면 해시를 건드리지 않음
+     * 반환: KEYS[2]에서 최고 기록이 갱신된 멤버 수
+     */
+    private static final RedisScript<Long> KEEP_BEST_BATCH_SCRIPT = new DefaultRedisScript<>("""
+            local improved = 0
+            for i = #KEYS + 1, #ARGV, 4 do
+                local index = tonumber(ARGV[i])
+                if ARGV[i + 3] ~= '' then
+                    redis.call('HSET', KEYS[1], ARGV[i + 1], ARGV[i + 3])
+                end
+                local current = redis.call('ZSCORE', KEYS[index], ARGV[i + 1])
+                if (not current) or tonumber(ARGV[i + 2]) > tonumber(current) then
+                    redis.call('ZADD', KEYS[index], ARGV[i + 2], ARGV[i + 1])
+                    if index == 2 then
+                        improved = improved + 1
+                    end
+                end
+            end
+            for k = 2, #KEYS do
+                redis.call('ZREMRANGEBYRANK', KEYS[k], 0, -(tonumber(ARGV[1]) + 1))
+                if ARGV[k] ~= '0' then
+                    redis.call('PEXPIREAT', KEYS[k], ARGV[k])
+                end
+            end
+            return improved
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 랭킹 키, KEYS[2]: 재구성 임시 키
+     * ARGV[1]: 보관 인원, ARGV[2]: KEYS[1]의 만료 시각(ms, 0이면 만료 없음)
+     * 임시 키가 있으면 멤버별 높은 점수로 랭킹 키에 합치고 임시 키를 지움 (랭킹 키는 지우지 않음)
+     * 반환: 합친 뒤 랭킹 키의 멤버 수
+     */
+    private static final RedisScript<Long> MERGE_REBUILT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[2], 'AGGREGATE', 'MAX')
+                redis.call('DEL', KEYS[2])
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[1]) + 1))
+                if ARGV[2] ~= '0' then
+                    redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+                end
+            end
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private static final List<RankingWindow> PERIOD_WINDOWS = List.of(RankingWindow.DAILY, RankingWindow.WEEKLY);
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 게임별 랭킹 보관 인원
+     */
+    @Value("${game.ranking.capacity:10000}")
+    private int capacity;
+
+    /**
+     * 기간 경계를 계산할 시간대
+     */
+    @Value("${game.ranking.window.zone:Asia/Seoul}")
+    private ZoneId zone;
+
+    /**
+     * 기간 종료 후 키를 유지하는 시간 (늦게 도착한 이벤트 반영용)
+     */
+    @Value("${game.ranking.window.grace:1h}")
+    private Duration grace;
+
+    /**
+     * 재구성 시 한 번의 파이프라인으로 보내는 청크 수
+     */
+    @Value("${game.ranking.rebuild.pipeline-depth:8}")
+    private int rebuildPipelineDepth;
+
+    /**
+     * 최고 점수 반영 후 전체 기간 순위 조회 (모든 기간 키를 Redis 왕복 1회로 처리)
+     */
+    public BestScoreResult submitBestScore(ScoreEvent scoreEvent) {
+        Instant playedAt = playedAt(scoreEvent);
+
+        List<String> keys = new ArrayList<>(PERIOD_WINDOWS.size() + 2);
+        keys.add(NICKNAMES_KEY);
+        keys.add(RankingWindow.ALL_TIME.key(scoreEvent.getGameType(), playedAt, zone));
+
+        List<String> args = new ArrayList<>(PERIOD_WINDOWS.size() + 4);
+        args.add(Long.toString(scoreEvent.getUserId()));
+        args.add(Integer.toString(scoreEvent.getScore()));
+        args.add(Integer.toString(capacity));
+        args.add(scoreEvent.getNickname());
+        for (RankingWindow window : PERIOD_WINDOWS) {
+            keys.add(window.key(scoreEvent.getGameType(), playedAt, zone));
+            args.add(Long.toString(expireAt(window, playedAt)));
+        }
+
+        List<?> result = stringRedisTemplate.execute(KEEP_BEST_SCRIPT, keys, args.toArray());
+
+        boolean improved = result != null && toLong(result.get(0)) == 1L;
+        long rank = result != null ? toLong(result.get(1)) : 0L;
+        return new BestScoreResult(improved, rank > 0 ? rank : null);
+    }
+
+    /**
+     * 여러 멤버의 최고 점수를 모든 기간 키에 반영 (Redis 왕복 1회)
+     *
+     * @param bestEvents 사용자별 최고 점수 이벤트 (사용자당 하나)
+     * @return 전체 기간에서 최고 기록이 갱신된 멤버 수
+     */
+    public long submitBestScores(String gameType, Collection<ScoreEvent> bestEvents) {
+        BatchWrite batch = new BatchWrite();
+        batch.keyIndex(RankingWindow.ALL_TIME.key(gameType, Instant.now(), zone), 0L);
+
+        for (ScoreEvent event : bestEvents) {
+            Instant playedAt = playedAt(event);
+            batch.add(RankingWindow.ALL_TIME.key(gameType, playedAt, zone), 0L, event, event.getNickname());
+            for (RankingWindow window : PERIOD_WINDOWS) {
+                batch.add(window.key(gameType, playedAt, zone), expireAt(window, playedAt), event, event.getNickname());
+            }
+        }
+        return batch.execute();
+    }
+
+    /**
+     * 기간 랭킹 재구성
+     *
+     * 임시 키에 청크 단위로 쌓은 뒤 스크립트 하나로 ZUNIONSTORE ... AGGREGATE MAX 병합, 보관 인원 정리,
+     * 만료 시각 복원을 원자적으로 처리합니다. 재구성 중에도 기존 랭킹이 조회되며,
+     * 재구성 중 실시간으로 반영된 점수도 멤버별 높은 점수가 남으므로 사라지지 않습니다.
+     * 랭킹 키는 지우지 않으므로, 읽은 이력이 없으면 아무것도 바뀌지 않고 원천에서 지워진 기록도 남습니다.
+     * 청크는 pipeline-depth개씩 모아 EVALSHA 파이프라인 하나로 보내므로 청크마다 왕복을 기다리지 않습니다.
+     *
+     * @param chunks 사용자별 최고 점수 청크 스트림
+     * @return 재구성된 랭킹 키
+     */
+    public String rebuild(String gameType, RankingWindow window, Instant at, Stream<Collection<ScoreEvent>> chunks) {
+        String key = window.key(gameType, at, zone);
+        String buildingKey = key + ":rebuild";
+        long expireAt = window == RankingWindow.ALL_TIME ? 0L : expireAt(window, at);
+
+        stringRedisTemplate.delete(buildingKey);
+        List<BatchWrite> pending = new ArrayList<>(rebuildPipelineDepth);
+        chunks.forEach(chunk -> {
+            BatchWrite batch = new BatchWrite();
+            for (ScoreEvent event : chunk) {
+                // 과거 점수의 닉네임으로 현재 닉네임을 덮어쓰지 않음
+                batch.add(buildingKey, expireAt, event, "");
+            }
+            pending.add(batch);
+            if (pending.size() >= rebuildPipelineDepth) {
+                executePipelined(pending);
+                pending.clear();
+            }
+        });
+        executePipelined(pending);
+
+        stringRedisTemplate.execute(MERGE_REBUILT_SCRIPT, List.of(key, buildingKey),
+                Integer.toString(capacity), Long.toString(expireAt));
+        return key;
+    }
+
+    /**
+     * 배치 여러 개를 파이프라인 하나로 실행
+     *
+     * 첫 배치는 일반 실행으로 스크립트 캐시(EVALSHA → EVAL 대체)를 보장하고, 나머지는 EVALSHA로 파이프라인에 싣습니다.
+     * 파이프라인이 실패하면(스크립트 캐시가 비워진 경우 등) 나머지를 하나씩 다시 실행합니다. 최고 점수 반영은 멱등입니다.
+     */
+    private void executePipelined(List<BatchWrite> batches) {
+        if (batches.isEmpty()) {
+            return;
+        }
+        batches.get(0).execute();
+        List<BatchWrite> rest = batches.subList(1, batches.size());
+        if (rest.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (BatchWrite batch : rest) {
+                    batch.evalSha(connection);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("랭킹 재구성 파이프라인 실패, 청크를 하나씩 다시 실행합니다: chunks={}, error={}", rest.size(), e.getMessage());
+            rest.forEach(BatchWrite::execute);
+        }
+    }
+
+    /**
+     * 현재 기간의 랭킹 멤버 수 (ZCARD, 키가 없으면 0)
+     */
+    public long size(String gameType, RankingWindow window) {
+        Long size = stringRedisTemplate.opsForZSet().zCard(window.key(gameType, Instant.now(), zone));
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 현재 기간의 랭킹 구간 조회 (ZREVRANGE ... WITHSCORES, Redis 왕복 1회)
+     *
+     * 끝 인덱스는 long으로 계산합니다. int로 넘치면 음수가 되어 Redis가 뒤에서부터 센 구간을 반환합니다.
+     *
+     * @return userId 문자열 멤버와 점수
+     */
+    public Set<ZSetOperations.TypedTuple<String>> range(String gameType, RankingWindow window, int start, int size) {
+        String key = window.key(gameType, Instant.now(), zone);
+        return stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, start, (long) start + size - 1);
+    }
+
+    public Set<ZSetOperations.TypedTuple<String>> range(String gameType, int start, int size) {
+        return range(gameType, RankingWindow.ALL_TIME, start, size);
+    }
+
+    /**
+     * 현재 기간의 사용자 순위 (ZREVRANK, 0부터, 순위 밖이면 null)
+     */
+    public Long rankOf(String gameType, RankingWindow window, long userId) {
+        String key = window.key(gameType, Instant.now(), zone);
+        return stringRedisTemplate.opsForZSet().reverseRank(key, Long.toString(userId));
+    }
+
+    /**
+     * 현재 기간의 시작 시각 (ALL_TIME은 null)
+     */
+    public Instant windowStart(RankingWindow window, Instant at) {
+        ZonedDateTime start = window.start(at, zone);
+        return start != null ? start.toInstant() : null;
+    }
+
+    private long expireAt(RankingWindow window, Instant playedAt) {
+        return window.end(playedAt, zone).toInstant().plus(grace).toEpochMilli();
+    }
+
+    private static Instant playedAt(ScoreEvent scoreEvent) {
+        return scoreEvent.getTimestamp() != null ? Instant.ofEpochMilli(scoreEvent.getTimestamp()) : Instant.now();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * 배치 스크립트 인자 조립 (키마다 인덱스를 한 번만 부여)
+     */
+    private final class BatchWrite {
+
+        private final Map<String, Integer> keyIndexes = new LinkedHashMap<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<String> expireAts = new ArrayList<>();
+        private final List<String> records = new ArrayList<>();
+
+        private BatchWrite() {
+            keys.add(NICKNAMES_KEY);
+        }
+
+        private int keyIndex(String key, long expireAt) {
+            return keyIndexes.computeIfAbsent(key, k -> {
+                keys.add(k);
+                expireAts.add(Long.toString(expireAt));
+                return keys.size();
+            });
+        }
+
+        private void add(String key, long expireAt, ScoreEvent event, String nickname) {
+            records.add(Integer.toString(keyIndex(key, expireAt)));
+            records.add(Long.toString(event.getUserId()));
+            records.add(Integer.toString(event.getScore()));
+            records.add(nickname != null ? nickname : "");
+        }
+
+        private long execute() {
+            if (records.isEmpty()) {
+                return 0L;
+            }
+            List<String> args = new ArrayList<>(1 + expireAts.size() + records.size());
+            args.add(Integer.toString(capacity));
+            args.addAll(expireAts);
+            args.addAll(records);
+
+            Long improved = stringRedisTemplate.execute(KEEP_BEST_BATCH_SCRIPT, keys, args.toArray());
+            return improved != null ? improved : 0L;
+        }
+
+        /**
+         * 파이프라인 연결에서 EVALSHA로 실행 (결과는 파이프라인 종료 시 한꺼번에 받음)
+         */
+        private void evalSha(RedisConnection connection) {
+            if (records.isEmpty()) {
+                return;
+            }
+            byte[][] keysAndArgs = new byte[keys.size() + 1 + expireAts.size() + records.size()][];
+            int i = 0;
+            for (String key : keys) {
+                keysAndArgs[i++] = key.getBytes(StandardCharsets.UTF_8);
+            }
+            keysAndArgs[i++] = Integer.toString(capacity).getBytes(StandardCharsets.UTF_8);
+            for (String expireAt : expireAts) {
+                keysAndArgs[i++] = expireAt.getBytes(StandardCharsets.UTF_8);
+            }
+            for (String record : records) {
+                keysAndArgs[i++] = record.getBytes(StandardCharsets.UTF_8);
+            }
+            connection.scriptingCommands().evalSha(
+                    KEEP_BEST_BATCH_SCRIPT.getSha1(), ReturnType.INTEGER, keys.size(), keysAndArgs);
+        }
+    }
+
+    /**
+     * 최고 점수 반영 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class BestScoreResult {
+
+        /**
+         * 개인 최고 기록이 갱신되었는지 여부
+         */
+        private final boolean improved;
+
+        /**
+         * 반영 후 순위 (보관 인원 밖이면 null)
+         */
+        private final Long rank;
+    }
+}
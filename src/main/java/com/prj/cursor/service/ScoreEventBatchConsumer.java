@@ -0,0 +1,95 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.config.KafkaConfig;
+import com.prj.cursor.dto.ScoreEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점수 이벤트 배치 컨슈머
+ * 
+ * game.kafka.batch.enabled=true일 때 {@link ScoreEventConsumer} 대신 사용됩니다.
+ * 한 번의 poll로 받은 이벤트를 게임 타입별로 묶고, 같은 사용자의 점수는 최고 점수만 남긴 뒤
+ * 게임 타입마다 파이프라인 쓰기 1회와 브로드캐스트 요청 1회만 수행합니다.
+ * 수집 모드에 따라 점수 이력 저장과 랭킹 반영 중 컨슈머 몫만 처리합니다.
+ * 토픽이 게임 타입으로 파티셔닝되어 있으므로 스레드마다 맡은 파티션의 게임만 받아 서로 같은 랭킹을 두고 경합하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "game.kafka.batch.enabled", havingValue = "true")
+public class ScoreEventBatchConsumer {
+    
+    private final GameService gameService;
+    
+    @KafkaListener(
+            topics = KafkaConfig.SCORE_TOPIC,
+            groupId = "game-ranking-group",
+            concurrency = "${game.kafka.consumer.concurrency:4}",
+            containerFactory = "batchScoreListenerContainerFactory",
+            properties = "max.poll.records=${game.kafka.batch.max-records:500}")
+    public void handleScoreEvents(List<ScoreEvent> scoreEvents) {
+        log.info("Kafka 배치 수신: count={}", scoreEvents.size());
+        
+        ScoreIngestionMode mode = gameService.getIngestionMode();
+        
+        // 1. 점수 이력 일괄 저장 (ASYNC, HYBRID)
+        if (mode.isPersistedByConsumer()) {
+            List<ScoreEvent> validEvents = scoreEvents.stream()
+                    .filter(ScoreEventBatchConsumer::isValid)
+                    .toList();
+            try {
+                gameService.persistScores(validEvents);
+            } catch (Exception e) {
+                log.error("Kafka 배치 저장 중 오류 발생: count={}", validEvents.size(), e);
+            }
+        }
+        
+        if (!mode.isRankingUpdatedByConsumer()) {
+            return;
+        }
+        
+        Map<String, Map<Long, ScoreEvent>> bestScoresByGame = coalesce(scoreEvents);
+        
+        bestScoresByGame.forEach((gameType, bestScores) -> {
+            try {
+                // 2. Redis에 배치 반영 (파이프라인 1회) - 브로드캐스트는 GameService가 요청
+                gameService.updateRankingBatch(gameType, bestScores.values());
+                
+            } catch (Exception e) {
+                log.error("Kafka 배치 처리 중 오류 발생: gameType={}, members={}", gameType, bestScores.size(), e);
+            }
+        });
+    }
+    
+    /**
+     * 게임 타입별로 이벤트를 묶고, 사용자(userId)마다 배치 내 최고 점수 이벤트만 남김
+     */
+    static Map<String, Map<Long, ScoreEvent>> coalesce(List<ScoreEvent> scoreEvents) {
+        Map<String, Map<Long, ScoreEvent>> bestScoresByGame = new HashMap<>();
+        
+        for (ScoreEvent event : scoreEvents) {
+            if (!isValid(event)) {
+                log.warn("잘못된 점수 이벤트 무시: {}", event);
+                continue;
+            }
+            bestScoresByGame
+                    .computeIfAbsent(event.getGameType(), gameType -> new HashMap<>())
+                    .merge(event.getUserId(), event,
+                            (current, candidate) -> candidate.getScore() > current.getScore() ? candidate : current);
+        }
+        
+        return bestScoresByGame;
+    }
+    
+    private static boolean isValid(ScoreEvent event) {
+        return GameScoreWriter.isStorable(event);
+    }
+}
@@ -1,37 +1,46 @@
 package com.prj.cursor.service;
 
-import com.prj.cursor.dto.RankingEntry;
+import com.prj.cursor.config.KafkaConfig;
 import com.prj.cursor.dto.ScoreEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
+/**
+ * 점수 이벤트 컨슈머
+ * 
+ * 게임 타입을 키로 파티셔닝된 game-scores를 game.kafka.consumer.concurrency개의 컨테이너 스레드로 소비합니다.
+ * 파티션 하나는 한 스레드만 처리하므로 같은 게임의 이벤트는 순서대로, 다른 게임은 병렬로 반영됩니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "game.kafka.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class ScoreEventConsumer {
     
     private final GameService gameService;
-    private final SimpMessagingTemplate messagingTemplate;
     
-    @KafkaListener(topics = "game-scores", groupId = "game-ranking-group")
+    @KafkaListener(
+            topics = KafkaConfig.SCORE_TOPIC,
+            groupId = "game-ranking-group",
+            concurrency = "${game.kafka.consumer.concurrency:4}")
     public void handleScoreEvent(ScoreEvent scoreEvent) {
         try {
             log.info("Kafka 메시지 수신: {}", scoreEvent);
             
-            // 1. Redis에 랭킹 업데이트
-            gameService.updateRanking(scoreEvent);
+            ScoreIngestionMode mode = gameService.getIngestionMode();
             
-            // 2. 실시간 랭킹 전송
-            List<RankingEntry> rankings = gameService.getTopRankings(scoreEvent.getGameType(), 10);
-            String destination = "/topic/rankings/" + scoreEvent.getGameType();
+            // 1. 점수 이력 저장 (ASYNC, HYBRID)
+            if (mode.isPersistedByConsumer()) {
+                gameService.persistScore(scoreEvent);
+            }
             
-            messagingTemplate.convertAndSend(destination, rankings);
-            log.info("실시간 랭킹 전송 완료: destination={}, count={}", destination, rankings.size());
+            // 2. Redis에 랭킹 업데이트 (ASYNC) - 브로드캐스트는 GameService가 요청
+            if (mode.isRankingUpdatedByConsumer()) {
+                gameService.updateRanking(scoreEvent);
+            }
             
         } catch (Exception e) {
             log.error("Kafka 메시지 처리 중 오류 발생: {}", scoreEvent, e);
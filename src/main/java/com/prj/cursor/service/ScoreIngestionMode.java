@@ -0,0 +1,36 @@
+package com.prj.cursor.service;
+
+/**
+ * 점수 수집 모드 (game.score.ingestion-mode)
+ */
+public enum ScoreIngestionMode {
+    
+    /**
+     * 요청 스레드에서 DB 저장과 Redis 랭킹 반영을 모두 처리 (Kafka 미사용)
+     */
+    DIRECT,
+    
+    /**
+     * 요청 스레드는 Kafka 전송만 하고, 컨슈머가 DB 저장과 랭킹 반영을 처리
+     */
+    ASYNC,
+    
+    /**
+     * 요청 스레드에서 랭킹을 반영하고, 컨슈머가 DB 저장을 처리
+     */
+    HYBRID;
+    
+    /**
+     * 컨슈머가 점수 이력을 DB에 저장하는지 여부
+     */
+    public boolean isPersistedByConsumer() {
+        return this == ASYNC || this == HYBRID;
+    }
+    
+    /**
+     * 컨슈머가 Redis 랭킹을 반영하는지 여부
+     */
+    public boolean isRankingUpdatedByConsumer() {
+        return this == ASYNC;
+    }
+}
@@ -0,0 +1,234 @@
+package com.prj.cursor.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 점수 제출 속도 제한 (사용자/세션별 토큰 버킷)
+ *
+ * (gameType, 클라이언트 키)마다 버킷 하나를 두고, 초당 rate개씩 최대 burst개까지 토큰을 채웁니다.
+ * 버킷은 키 해시로 고른 stripe에 나눠 보관하며 stripe마다 잠금이 따로 있어,
+ * 서로 다른 사용자의 검사는 거의 경합하지 않고 검사 한 번은 해시 조회와 산술 몇 번으로 끝납니다.
+ *
+ * 게임별 속도는 overrides에 "gameType:rate/burst" 목록으로 지정하며, 없으면 기본값을 씁니다.
+ * 설정되지 않은 게임 타입({@link GameTypes})은 모두 "other" 하나로 묶어, 임의의 게임 타입으로 버킷이나 통계 키가 늘어나지 않게 합니다.
+ *
+ * stripe의 버킷은 접근 순서로 보관하며, 버킷 수가 max-buckets-per-stripe에 이르면 가장 오래 쓰이지 않은 쪽부터
+ * 가득 찬(지워도 새 버킷과 같은) 버킷을 정리하고, 정리할 버킷이 없으면 가장 오래 쓰이지 않은 버킷 하나를 지웁니다.
+ */
+@Component
+@Slf4j
+public class ScoreSubmissionLimiter {
+
+    /**
+     * 설정되지 않은 게임 타입을 묶는 이름
+     */
+    static final String OTHER_GAME_TYPE = "other";
+
+    private final boolean enabled;
+
+    private final GameTypes gameTypes;
+
+    private final Rate defaultRate;
+
+    private final Map<String, Rate> rates;
+
+    private final Stripe[] stripes;
+
+    private final int stripeMask;
+
+    private final int maxBucketsPerStripe;
+
+    private final LongSupplier nanoClock;
+
+    private final LongAdder allowed = new LongAdder();
+
+    private final Map<String, LongAdder> rejected = new ConcurrentHashMap<>();
+
+    public ScoreSubmissionLimiter(
+            @Value("${game.score.rate-limit.enabled:true}") boolean enabled,
+            @Value("${game.score.rate-limit.rate:5}") double rate,
+            @Value("${game.score.rate-limit.burst:10}") int burst,
+            @Value("${game.score.rate-limit.overrides:}") String overrides,
+            @Value("${game.score.rate-limit.stripes:64}") int stripes,
+            @Value("${game.score.rate-limit.max-buckets-per-stripe:4096}") int maxBucketsPerStripe,
+            GameTypes gameTypes) {
+        this(enabled, rate, burst, overrides, stripes, maxBucketsPerStripe, gameTypes, System::nanoTime);
+    }
+
+    ScoreSubmissionLimiter(boolean enabled, double rate, int burst, String overrides,
+                           int stripes, int maxBucketsPerStripe, GameTypes gameTypes, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.gameTypes = gameTypes;
+        this.defaultRate = new Rate(rate, burst);
+        this.rates = parseOverrides(overrides);
+        int stripeCount = Integer.highestOneBit(Math.max(stripes, 1) * 2 - 1);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = stripeCount - 1;
+        this.maxBucketsPerStripe = maxBucketsPerStripe;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 제출 허용 여부 검사 (허용하면 토큰 하나를 사용)
+     *
+     * @param clientKey 사용자 또는 세션을 구분하는 키 (예: "user:42", "session:abc")
+     */
+    public boolean tryAcquire(String gameType, String clientKey) {
+        if (!enabled) {
+            return true;
+        }
+        String bucketGameType = gameTypes.isKnown(gameType) ? gameType : OTHER_GAME_TYPE;
+        Rate rate = rates.getOrDefault(bucketGameType, defaultRate);
+        String key = bucketGameType + '|' + clientKey;
+        Stripe stripe = stripes[spread(key.hashCode()) & stripeMask];
+        long now = nanoClock.getAsLong();
+
+        boolean granted;
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                if (stripe.buckets.size() >= maxBucketsPerStripe) {
+                    stripe.evict(now);
+                }
+                bucket = new Bucket(rate, now);
+                stripe.buckets.put(key, bucket);
+            }
+            granted = bucket.tryConsume(now);
+        }
+
+        if (granted) {
+            allowed.increment();
+        } else {
+            rejected.computeIfAbsent(bucketGameType, k -> new LongAdder()).increment();
+            log.debug("점수 제출 속도 제한 초과: gameType={}, client={}", gameType, clientKey);
+        }
+        return granted;
+    }
+
+    /**
+     * 허용된 제출 수 (기동 후 누적)
+     */
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    /**
+     * 게임별 거절된 제출 수 (기동 후 누적, 설정되지 않은 게임 타입은 "other")
+     */
+    public Map<String, Long> getRejectedCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        rejected.forEach((gameType, count) -> counts.put(gameType, count.sum()));
+        return counts;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * "snake:10/20,tetris:2/5" 형식 파싱 (gameType:초당 토큰/최대 토큰)
+     */
+    static Map<String, Rate> parseOverrides(String overrides) {
+        Map<String, Rate> parsed = new HashMap<>();
+        if (overrides == null || overrides.isBlank()) {
+            return parsed;
+        }
+        for (String item : overrides.split(",")) {
+            String trimmed = item.trim();
+            int colon = trimmed.lastIndexOf(':');
+            int slash = trimmed.indexOf('/', colon);
+            if (colon <= 0 || slash < 0) {
+                throw new IllegalArgumentException("잘못된 점수 제출 속도 설정: " + trimmed);
+            }
+            parsed.put(trimmed.substring(0, colon), new Rate(
+                    Double.parseDouble(trimmed.substring(colon + 1, slash)),
+                    Integer.parseInt(trimmed.substring(slash + 1))));
+        }
+        return parsed;
+    }
+
+    static final class Rate {
+        private final double tokensPerNano;
+        private final int burst;
+
+        Rate(double tokensPerSecond, int burst) {
+            if (tokensPerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("rate와 burst는 양수여야 합니다: " + tokensPerSecond + "/" + burst);
+            }
+            this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+            this.burst = burst;
+        }
+    }
+
+    private static final class Bucket {
+        private final Rate rate;
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(Rate rate, long now) {
+            this.rate = rate;
+            this.tokens = rate.burst;
+            this.refilledAt = now;
+        }
+
+        private boolean tryConsume(long now) {
+            tokens = Math.min(rate.burst, tokens + (now - refilledAt) * rate.tokensPerNano);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        /**
+         * 지금 채우면 가득 차는 버킷 (지워도 새로 만든 버킷과 같음)
+         */
+        private boolean isFullAt(long now) {
+            return tokens + (now - refilledAt) * rate.tokensPerNano >= rate.burst;
+        }
+    }
+
+    private static final class Stripe {
+        /**
+         * 접근 순서 (가장 오래 쓰이지 않은 버킷이 맨 앞)
+         */
+        private final Map<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+
+        /**
+         * 가장 오래 쓰이지 않은 쪽부터 가득 찬 버킷을 정리하고, 없으면 가장 오래 쓰이지 않은 버킷 하나를 지움
+         *
+         * 버킷은 쓰일 때마다 채워지므로 오래 쓰이지 않은 버킷부터 가득 차며, 처음 만난 가득 차지 않은 버킷에서 멈춥니다.
+         */
+        private void evict(long now) {
+            Iterator<Map.Entry<String, Bucket>> iterator = buckets.entrySet().iterator();
+            int removed = 0;
+            while (iterator.hasNext()) {
+                Map.Entry<String, Bucket> entry = iterator.next();
+                if (!entry.getValue().isFullAt(now)) {
+                    if (removed == 0) {
+                        // 모두 사용 중이면 가장 오래 쓰이지 않은 사용자만 새 버킷으로 다시 시작
+                        iterator.remove();
+                        log.debug("점수 제출 속도 제한 버킷 한도 초과로 사용 중인 버킷 정리: client={}", entry.getKey());
+                    }
+                    return;
+                }
+                iterator.remove();
+                removed++;
+            }
+        }
+    }
+}
@@ -86,7 +86,7 @@ async function loadPosts() {
                 id: board.boardNo,
                 boardNo: board.boardNo,
                 title: board.title,
-                excerpt: board.content ? board.content.substring(0, 100) + (board.content.length > 100 ? '...' : '') : '',
+                excerpt: board.contentPreview || '',
                 category: board.category,
                 categoryName: getCategoryName(board.category),
                 author: board.author?.nickname || '알 수 없음',
@@ -15,6 +15,10 @@ class SnakeGame {
         this.gameLoop = null;
         this.gameType = 'snake';
         this.isWebSocketConnected = false;
+        this.rankings = [];
+        this.rankingSequences = {};
+        this.rankingBoards = {};
+        this.awaitingRankingBase = new Set();
         
         this.initWebSocket();
         this.initEventListeners();
@@ -37,14 +41,22 @@ class SnakeGame {
                     // 실시간 랭킹 구독
                     this.stompClient.subscribe('/topic/rankings/' + this.gameType, (message) => {
                         try {
-                            const rankings = JSON.parse(message.body);
-                            console.log('실시간 랭킹 수신:', rankings);
-                            this.updateRankingDisplay(rankings);
+                            const update = JSON.parse(message.body);
+                            console.log('실시간 랭킹 수신:', update);
+                            this.applyRankingUpdate(update);
                         } catch (error) {
                             console.error('랭킹 데이터 파싱 오류:', error);
                         }
                     });
                     
+                    // 내 점수 반영 결과 (반영 후 순위) 구독
+                    this.stompClient.subscribe('/user/queue/game/score-result', (message) => {
+                        const result = JSON.parse(message.body);
+                        if (result.rank) {
+                            console.log(`현재 ${result.rank}위`);
+                        }
+                    });
+                    
                     // 초기 랭킹 요청
                     this.requestRankings();
                 },
@@ -319,7 +331,8 @@ class SnakeGame {
             });
             
             if (response.ok) {
-                console.log('점수 제출 성공');
+                const result = await response.json();
+                console.log('점수 제출 성공', result.rank ? `현재 ${result.rank}위` : '');
             } else {
                 console.error('점수 제출 실패');
             }
@@ -332,14 +345,59 @@ class SnakeGame {
         try {
             const response = await fetch(`/api/game/rankings/${this.gameType}?limit=10`);
             const rankings = await response.json();
+            // 기준 랭킹을 기다리던 origin은 조회한 랭킹에 이후 DELTA를 적용
+            this.awaitingRankingBase.forEach(origin => {
+                this.rankingBoards[origin] = rankings;
+            });
+            this.awaitingRankingBase.clear();
             this.updateRankingDisplay(rankings);
         } catch (error) {
+            this.awaitingRankingBase.clear();
             console.error('랭킹 로드 오류:', error);
             document.getElementById('rankingList').innerHTML = '<div class="loading">랭킹을 불러올 수 없습니다.</div>';
         }
     }
     
+    /**
+     * 랭킹 프레임 반영 (SNAPSHOT: 전체 교체, DELTA: 바뀐 순위만 교체)
+     * 
+     * 순번과 DELTA의 기준 랭킹은 프레임을 만든 노드(origin)별로 다르므로 origin마다 따로 관리합니다.
+     * (다른 노드의 DELTA를 이 노드 프레임으로 만든 랭킹에 적용하면 순위가 어긋남)
+     */
+    applyRankingUpdate(update) {
+        const origin = update.origin || 'local';
+        const lastSequence = this.rankingSequences[origin];
+        const missedFrame = lastSequence !== undefined && update.sequence !== lastSequence + 1;
+        this.rankingSequences[origin] = update.sequence;
+        
+        if (update.type === 'SNAPSHOT') {
+            this.rankingBoards[origin] = update.entries;
+            this.updateRankingDisplay(update.entries);
+            return;
+        }
+        
+        // 중간 프레임을 놓쳤거나 이 origin의 기준 랭킹이 없으면 전체 랭킹을 조회해 기준으로 삼음
+        const base = this.rankingBoards[origin];
+        if (missedFrame || !base) {
+            delete this.rankingBoards[origin];
+            if (!this.awaitingRankingBase.has(origin)) {
+                this.awaitingRankingBase.add(origin);
+                this.loadRankings();
+            }
+            return;
+        }
+        
+        const rankings = base.slice(0, update.size);
+        update.entries.forEach(entry => {
+            rankings[entry.rank - 1] = entry;
+        });
+        this.rankingBoards[origin] = rankings;
+        this.updateRankingDisplay(rankings);
+    }
+    
     updateRankingDisplay(rankings) {
+        this.rankings = rankings;
+
         const rankingList = document.getElementById('rankingList');
         
         if (rankings.length === 0) {
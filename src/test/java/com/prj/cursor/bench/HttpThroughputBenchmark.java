@@ -0,0 +1,125 @@
+package com.prj.cursor.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP 처리량 측정 도구 (테스트가 아닌 수동 실행용)
+ *
+ * 실행 중인 서버에 concurrency개의 클라이언트가 duration 동안 요청을 반복해 보내고
+ * 초당 처리량과 지연 시간 분위수를 출력합니다.
+ * 플랫폼 스레드(기본)와 가상 스레드(virtual 프로필) 서버를 각각 띄워 같은 조건으로 비교합니다.
+ *
+ * 실행: ./gradlew httpBenchmark -Pbench.path=/api/game/rankings/snake?limit=50 -Pbench.concurrency=400
+ */
+public final class HttpThroughputBenchmark {
+
+    private HttpThroughputBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:9090";
+        String path = args.length > 1 ? args[1] : "/api/game/rankings/snake?limit=50";
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 400;
+        Duration duration = args.length > 3 ? parseDuration(args[3]) : Duration.ofSeconds(30);
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        // 워밍업 (JIT, 커넥션 풀)
+        run(client, request, concurrency, Duration.ofSeconds(5));
+
+        Result result = run(client, request, concurrency, duration);
+        double seconds = duration.toMillis() / 1000.0;
+        System.out.printf("url=%s%s concurrency=%d duration=%s%n", baseUrl, path, concurrency, duration);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                result.requests, result.errors, result.requests / seconds);
+        System.out.printf("latency p50=%.1fms p99=%.1fms max=%.1fms%n",
+                result.percentile(0.50), result.percentile(0.99), result.percentile(1.0));
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - started;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            List<long[]> all = new ArrayList<>(concurrency);
+            for (Future<long[]> worker : workers) {
+                all.add(worker.get());
+            }
+            long[] merged = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(merged, errors.get());
+        }
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static final class Result {
+        private final long[] sortedLatencies;
+        private final long requests;
+        private final long errors;
+
+        private Result(long[] sortedLatencies, long errors) {
+            this.sortedLatencies = sortedLatencies;
+            this.requests = sortedLatencies.length;
+            this.errors = errors;
+        }
+
+        private double percentile(double p) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sortedLatencies.length - 1, Math.ceil(p * sortedLatencies.length) - 1);
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.prj.cursor.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prj.cursor.dto.RankingEntry;
+import com.prj.cursor.dto.RankingUpdate;
+import com.prj.cursor.dto.ScoreSubmission;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 게임 트래픽 STOMP 부하 생성기 (테스트가 아닌 수동 실행용)
+ *
+ * clients개의 STOMP 세션을 열어 /topic/rankings/{gameType}을 구독하고, 세션을 돌아가며
+ * /app/game/score로 초당 rate건의 점수를 제출합니다. 점수는 매번 1씩 커지므로 제출마다 1위가 되어
+ * 다음 브로드캐스트 프레임에 실립니다. 제출 시각과 각 세션이 그 점수를 처음 받은 시각의 차이를
+ * 제출-브로드캐스트 지연으로 집계하고, origin별 순번이 건너뛴 만큼을 유실 프레임으로 셉니다.
+ *
+ * 대상 서버 실행 (Redis 필요, 사용자 수가 적으면 점수 제출 속도 제한에 걸리므로 users를 충분히 둡니다):
+ *   ./gradlew bootRun --args='--spring.profiles.active=h2'
+ * 부하 실행:
+ *   ./gradlew stompLoadTest -Pload.clients=1000 -Pload.rate=200 -Pload.duration=60s
+ *
+ * 인자는 key=value 형식입니다: url, clients, rate, duration, users, gameType, native(true면 /ws-native 사용)
+ */
+public final class StompLoadGenerator {
+
+    private final String url;
+    private final boolean nativeEndpoint;
+    private final int clientCount;
+    private final int rate;
+    private final Duration duration;
+    private final int users;
+    private final String gameType;
+
+    /**
+     * 점수 → 제출 시각(nanoTime)
+     */
+    private final Map<Integer, Long> submittedAt = new ConcurrentHashMap<>();
+    private final AtomicInteger nextScore = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong submitErrors = new AtomicLong();
+    private final List<LoadClient> clients = new ArrayList<>();
+
+    private StompLoadGenerator(Map<String, String> options) {
+        this.nativeEndpoint = Boolean.parseBoolean(options.getOrDefault("native", "false"));
+        this.url = options.getOrDefault("url", nativeEndpoint ? "ws://localhost:9090/ws-native" : "http://localhost:9090/ws");
+        this.clientCount = Integer.parseInt(options.getOrDefault("clients", "100"));
+        this.rate = Integer.parseInt(options.getOrDefault("rate", "50"));
+        this.duration = parseDuration(options.getOrDefault("duration", "60s"));
+        this.users = Integer.parseInt(options.getOrDefault("users", "10000"));
+        this.gameType = options.getOrDefault("gameType", "load" + (System.currentTimeMillis() % 100_000_000L));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0 && eq < arg.length() - 1) {
+                options.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+        }
+        new StompLoadGenerator(options).run();
+    }
+
+    private void run() throws Exception {
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("load-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+
+        WebSocketClient transport = nativeEndpoint
+                ? new StandardWebSocketClient()
+                : new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())));
+        WebSocketStompClient stompClient = new WebSocketStompClient(transport);
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(new ObjectMapper().registerModule(new JavaTimeModule()));
+        stompClient.setMessageConverter(converter);
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[] {10_000, 10_000});
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        System.out.printf("연결 중: url=%s, clients=%d, gameType=%s%n", url, clientCount, gameType);
+        for (int i = 0; i < clientCount; i++) {
+            LoadClient client = new LoadClient();
+            client.session = stompClient.connectAsync(url, client).get(30, TimeUnit.SECONDS);
+            client.session.subscribe("/topic/rankings/" + gameType, client);
+            clients.add(client);
+        }
+        // 구독이 브로커에 등록될 때까지 대기
+        Thread.sleep(1000);
+
+        System.out.printf("제출 시작: rate=%d/s, duration=%s, users=%d%n", rate, duration, users);
+        ScheduledExecutorService submitter = Executors.newSingleThreadScheduledExecutor();
+        long periodNanos = 1_000_000_000L / Math.max(rate, 1);
+        submitter.scheduleAtFixedRate(this::submitOne, 0, periodNanos, TimeUnit.NANOSECONDS);
+        Thread.sleep(duration.toMillis());
+        submitter.shutdownNow();
+
+        // 마지막 window의 프레임까지 수신 대기
+        Thread.sleep(2000);
+        report();
+
+        for (LoadClient client : clients) {
+            client.session.disconnect();
+        }
+        stompClient.stop();
+        heartbeatScheduler.shutdown();
+    }
+
+    private void submitOne() {
+        int score = nextScore.incrementAndGet();
+        long count = submitted.incrementAndGet();
+        LoadClient client = clients.get((int) (count % clients.size()));
+        long userId = 1 + count % users;
+        try {
+            submittedAt.put(score, System.nanoTime());
+            client.session.send("/app/game/score",
+                    new ScoreSubmission(userId, "load-" + userId, score, gameType));
+        } catch (Exception e) {
+            submitErrors.incrementAndGet();
+        }
+    }
+
+    private void report() {
+        long[] merged = clients.stream()
+                .flatMapToLong(client -> Arrays.stream(client.latencies()))
+                .sorted()
+                .toArray();
+        long frames = clients.stream().mapToLong(client -> client.frames).sum();
+        long dropped = clients.stream().mapToLong(client -> client.droppedFrames).sum();
+        long expected = submitted.get() * clients.size();
+
+        System.out.println("==========================================");
+        System.out.printf("submitted=%d, submitErrors=%d, clients=%d%n", submitted.get(), submitErrors.get(), clients.size());
+        System.out.printf("framesReceived=%d, droppedFrames=%d%n", frames, dropped);
+        System.out.printf("observed=%d / expected=%d (%.1f%%)%n",
+                merged.length, expected, expected == 0 ? 0.0 : merged.length * 100.0 / expected);
+        System.out.printf("submit-to-broadcast latency p50=%.1fms p99=%.1fms p999=%.1fms max=%.1fms%n",
+                percentile(merged, 0.50), percentile(merged, 0.99), percentile(merged, 0.999), percentile(merged, 1.0));
+        System.out.println("==========================================");
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /**
+     * STOMP 세션 하나 (프레임 수신은 세션별로 순차 처리되지만 집계는 메인 스레드가 읽으므로 동기화)
+     */
+    private final class LoadClient extends StompSessionHandlerAdapter {
+
+        private StompSession session;
+        private final Map<String, Long> lastSequences = new HashMap<>();
+        private final Set<Integer> seenScores = new HashSet<>();
+        private long[] latencies = new long[256];
+        private int latencyCount;
+        private long frames;
+        private long droppedFrames;
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return RankingUpdate.class;
+        }
+
+        @Override
+        public synchronized void handleFrame(StompHeaders headers, Object payload) {
+            long receivedAt = System.nanoTime();
+            RankingUpdate update = (RankingUpdate) payload;
+            frames++;
+
+            String origin = update.getOrigin() != null ? update.getOrigin() : "local";
+            Long last = lastSequences.put(origin, update.getSequence());
+            if (last != null && update.getSequence() > last + 1) {
+                droppedFrames += update.getSequence() - last - 1;
+            }
+
+            if (update.getEntries() == null) {
+                return;
+            }
+            for (RankingEntry entry : update.getEntries()) {
+                Integer score = entry.getScore();
+                Long sentAt = score != null ? submittedAt.get(score) : null;
+                if (sentAt != null && seenScores.add(score)) {
+                    if (latencyCount == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, latencyCount * 2);
+                    }
+                    latencies[latencyCount++] = receivedAt - sentAt;
+                }
+            }
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            System.err.println("전송 오류: " + exception.getMessage());
+        }
+
+        private synchronized long[] latencies() {
+            return Arrays.copyOf(latencies, latencyCount);
+        }
+    }
+}
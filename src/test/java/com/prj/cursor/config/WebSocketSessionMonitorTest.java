@@ -0,0 +1,51 @@
+package com.prj.cursor.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * WebSocketSessionMonitor 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class WebSocketSessionMonitorTest {
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession fastSession;
+
+    @Mock
+    private WebSocketSession slowSession;
+
+    private final WebSocketSessionMonitor monitor = new WebSocketSessionMonitor();
+
+    @Test
+    @DisplayName("한도 초과(SESSION_NOT_RELIABLE)로 닫힌 세션만 강제 종료로 집계")
+    void afterConnectionClosed_CountsOnlyEvictions() throws Exception {
+        // given
+        WebSocketHandler decorated = monitor.decorate(handler);
+        lenient().when(slowSession.getId()).thenReturn("slow");
+        decorated.afterConnectionEstablished(fastSession);
+        decorated.afterConnectionEstablished(slowSession);
+
+        // when
+        decorated.afterConnectionClosed(fastSession, CloseStatus.NORMAL);
+        decorated.afterConnectionClosed(slowSession, CloseStatus.SESSION_NOT_RELIABLE.withReason("send time limit"));
+
+        // then
+        assertThat(monitor.getOpenedSessions()).isEqualTo(2);
+        assertThat(monitor.getActiveSessions()).isZero();
+        assertThat(monitor.getEvictedSessions()).isEqualTo(1);
+        verify(handler).afterConnectionClosed(slowSession, CloseStatus.SESSION_NOT_RELIABLE.withReason("send time limit"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.prj.cursor.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prj.cursor.dto.BoardSummary;
 import com.prj.cursor.entity.Board;
 import com.prj.cursor.entity.User;
 import com.prj.cursor.service.BoardService;
@@ -90,8 +91,8 @@ class BoardControllerTest {
     @DisplayName("게시글 목록 조회 API - 성공")
     void getBoards_Success() throws Exception {
         // given
-        List<Board> boards = Arrays.asList(testBoard);
-        Page<Board> boardPage = new PageImpl<>(boards, pageable, boards.size());
+        List<BoardSummary> boards = Arrays.asList(BoardSummary.from(testBoard));
+        Page<BoardSummary> boardPage = new PageImpl<>(boards, pageable, boards.size());
         
         when(boardService.getBoards(any(Pageable.class))).thenReturn(boardPage);
 
@@ -103,7 +104,9 @@ class BoardControllerTest {
                 .andExpect(jsonPath("$.content").exists())
                 .andExpect(jsonPath("$.content[0].boardNo").value(1))
                 .andExpect(jsonPath("$.content[0].title").value("테스트 게시글"))
-                .andExpect(jsonPath("$.content[0].category").value("일반"));
+                .andExpect(jsonPath("$.content[0].category").value("일반"))
+                .andExpect(jsonPath("$.content[0].contentPreview").value("테스트 내용입니다."))
+                .andExpect(jsonPath("$.content[0].content").doesNotExist());
 
         verify(boardService).getBoards(any(Pageable.class));
     }
@@ -301,8 +304,8 @@ class BoardControllerTest {
     void getBoardsByCategory_Success() throws Exception {
         // given
         String category = "일반";
-        List<Board> boards = Arrays.asList(testBoard);
-        Page<Board> boardPage = new PageImpl<>(boards, pageable, boards.size());
+        List<BoardSummary> boards = Arrays.asList(BoardSummary.from(testBoard));
+        Page<BoardSummary> boardPage = new PageImpl<>(boards, pageable, boards.size());
         
         when(boardService.getBoardsByCategory(eq(category), any(Pageable.class)))
                 .thenReturn(boardPage);
@@ -323,8 +326,8 @@ class BoardControllerTest {
     void searchBoards_Success() throws Exception {
         // given
         String keyword = "테스트";
-        List<Board> boards = Arrays.asList(testBoard);
-        Page<Board> boardPage = new PageImpl<>(boards, pageable, boards.size());
+        List<BoardSummary> boards = Arrays.asList(BoardSummary.from(testBoard));
+        Page<BoardSummary> boardPage = new PageImpl<>(boards, pageable, boards.size());
         
         when(boardService.searchBoards(eq(keyword), any(Pageable.class)))
                 .thenReturn(boardPage);
@@ -345,8 +348,8 @@ class BoardControllerTest {
     @DisplayName("인기 게시글 조회 API - 성공")
     void getPopularBoards_Success() throws Exception {
         // given
-        List<Board> boards = Arrays.asList(testBoard);
-        Page<Board> boardPage = new PageImpl<>(boards, pageable, boards.size());
+        List<BoardSummary> boards = Arrays.asList(BoardSummary.from(testBoard));
+        Page<BoardSummary> boardPage = new PageImpl<>(boards, pageable, boards.size());
         
         when(boardService.getPopularBoards(any(Pageable.class))).thenReturn(boardPage);
 
@@ -365,8 +368,8 @@ class BoardControllerTest {
     void getBoardsByAuthor_Success() throws Exception {
         // given
         Long userNo = 1L;
-        List<Board> boards = Arrays.asList(testBoard);
-        Page<Board> boardPage = new PageImpl<>(boards, pageable, boards.size());
+        List<BoardSummary> boards = Arrays.asList(BoardSummary.from(testBoard));
+        Page<BoardSummary> boardPage = new PageImpl<>(boards, pageable, boards.size());
         
         when(boardService.getBoardsByAuthor(eq(userNo), any(Pageable.class)))
                 .thenReturn(boardPage);
@@ -0,0 +1,115 @@
+package com.prj.cursor.controller;
+
+import com.prj.cursor.config.WebSocketConfig;
+import com.prj.cursor.config.WebSocketSessionMonitor;
+import com.prj.cursor.service.GameService;
+import com.prj.cursor.service.ScoreSubmissionLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * GameWebSocketController STOMP 흐름 테스트
+ *
+ * 실제 WebSocketConfig의 채널과 simple broker로, 세션이 /user/queue/game/score-result를 구독한 뒤
+ * 점수를 제출하면 해당 세션에 결과 프레임이 전달되는지 검증합니다.
+ */
+@SpringBootTest(classes = {WebSocketConfig.class, WebSocketSessionMonitor.class, GameWebSocketController.class})
+class GameWebSocketControllerTest {
+
+    private static final String SESSION_ID = "session-1";
+
+    private static final String SUBSCRIPTION_ID = "sub-1";
+
+    @MockitoBean
+    private GameService gameService;
+
+    @MockitoBean
+    private ScoreSubmissionLimiter scoreSubmissionLimiter;
+
+    @Autowired
+    private AbstractSubscribableChannel clientInboundChannel;
+
+    @Autowired
+    private AbstractSubscribableChannel clientOutboundChannel;
+
+    @Autowired
+    private AbstractSubscribableChannel brokerChannel;
+
+    @Test
+    @DisplayName("점수를 제출한 세션은 사용자 큐로 반영 후 순위를 응답받음")
+    void submitScore_RepliesOnUserQueue() throws InterruptedException {
+        // given
+        when(scoreSubmissionLimiter.tryAcquire(anyString(), anyString())).thenReturn(true);
+        when(gameService.submitScore(1L, "alice", 300, "snake")).thenReturn(3L);
+
+        BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+        clientOutboundChannel.addInterceptor(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (StompHeaderAccessor.wrap(message).getCommand() == StompCommand.MESSAGE) {
+                    outbound.add(message);
+                }
+                return message;
+            }
+        });
+        // 브로커가 구독을 등록한 뒤에 제출하도록 대기 (inbound 채널은 여러 스레드에서 처리됨)
+        CountDownLatch subscribed = new CountDownLatch(1);
+        brokerChannel.addInterceptor(new ChannelInterceptor() {
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                if (StompHeaderAccessor.wrap(message).getCommand() == StompCommand.SUBSCRIBE) {
+                    subscribed.countDown();
+                }
+            }
+        });
+
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId(SESSION_ID);
+        subscribe.setSubscriptionId(SUBSCRIPTION_ID);
+        subscribe.setDestination("/user/queue/game/score-result");
+        subscribe.setSessionAttributes(new HashMap<>());
+        clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+        assertThat(subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        StompHeaderAccessor send = StompHeaderAccessor.create(StompCommand.SEND);
+        send.setSessionId(SESSION_ID);
+        send.setDestination("/app/game/score");
+        send.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        send.setSessionAttributes(new HashMap<>());
+        byte[] payload = "{\"userId\":1,\"nickname\":\"alice\",\"score\":300,\"gameType\":\"snake\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        clientInboundChannel.send(MessageBuilder.createMessage(payload, send.getMessageHeaders()));
+
+        // then
+        Message<?> reply = outbound.poll(5, TimeUnit.SECONDS);
+        assertThat(reply).isNotNull();
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(reply);
+        assertThat(headers.getSessionId()).isEqualTo(SESSION_ID);
+        assertThat(headers.getSubscriptionId()).isEqualTo(SUBSCRIPTION_ID);
+        String body = new String((byte[]) reply.getPayload(), StandardCharsets.UTF_8);
+        assertThat(body).contains("\"success\":true").contains("\"rank\":3");
+    }
+}
@@ -0,0 +1,124 @@
+package com.prj.cursor.repository;
+
+import com.prj.cursor.entity.Board;
+import com.prj.cursor.entity.User;
+import com.prj.cursor.service.BoardCounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 카운터 테스트
+ *
+ * 게시글 변경 시의 증감 결과와 기동 시 재계산 결과가 같은지 검증합니다.
+ * 재계산은 어긋난 값이 남아 있는 행을 UPSERT로 덮어써야 합니다.
+ * 카운터 증감은 MariaDB UPSERT를 쓰므로 MariaDB 호환 모드 H2(h2 프로필)에서 실행합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class BoardCounterRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Autowired
+    private BoardCounterRepository boardCounterRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BoardCounterService boardCounterService;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        boardCounterService = new BoardCounterService(boardCounterRepository, boardRepository,
+                new TransactionTemplate(transactionManager));
+        author = entityManager.persist(User.builder()
+                .nickname("author")
+                .email("author@example.com")
+                .password("password123")
+                .build());
+    }
+
+    @Test
+    @DisplayName("생성/수정/비활성화/활성화로 증감한 카운터와 재계산한 카운터가 같음 (행을 지우지 않고 덮어씀)")
+    void reconcile_AgreesWithIncrementalCounts() {
+        // given - BoardService와 같은 순서로 게시글을 바꾸며 카운터 증감
+        create("일반");
+        create("공지");
+        Board moved = create("일반");
+        create(null);
+        Board deactivated = create("공지");
+        Board reactivated = create("일반");
+
+        moved.updateBoard(moved.getTitle(), moved.getContent(), "공지");
+        entityManager.flush();
+        boardCounterService.moved("일반", moved);
+
+        assertThat(boardRepository.deactivateBoard(deactivated.getBoardNo())).isEqualTo(1);
+        boardCounterService.removed(deactivated);
+
+        assertThat(boardRepository.deactivateBoard(reactivated.getBoardNo())).isEqualTo(1);
+        boardCounterService.removed(reactivated);
+        assertThat(boardRepository.activateBoard(reactivated.getBoardNo())).isEqualTo(1);
+        boardCounterService.added(reactivated);
+
+        List<Long> incremental = counts();
+        // 장애 등으로 어긋난 카운터와 게시글이 모두 빠진 카테고리
+        boardCounterRepository.add("all", 100);
+        boardCounterRepository.add("category:일반", -1);
+        boardCounterRepository.add("category:이벤트", 3);
+
+        // when
+        boardCounterService.reconcile();
+
+        // then
+        assertThat(counts()).isEqualTo(incremental);
+        assertThat(incremental).containsExactly(5L, 2L, 2L);
+        assertThat(boardCounterService.getCategoryCount("이벤트")).isZero();
+    }
+
+    private Board create(String category) {
+        Board board = entityManager.persist(Board.builder()
+                .title("게시글")
+                .content("내용")
+                .category(category)
+                .author(author)
+                .viewCount(0L)
+                .likeCount(0L)
+                .commentCount(0L)
+                .isActive(true)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build());
+        entityManager.flush();
+        boardCounterService.added(board);
+        return board;
+    }
+
+    private List<Long> counts() {
+        return List.of(boardCounterService.getTotalCount(),
+                boardCounterService.getCategoryCount("일반"),
+                boardCounterService.getCategoryCount("공지"));
+    }
+}
@@ -0,0 +1,157 @@
+package com.prj.cursor.repository;
+
+import com.prj.cursor.dto.BoardSummary;
+import com.prj.cursor.entity.Board;
+import com.prj.cursor.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoardRepository 목록 프로젝션 테스트
+ *
+ * Hibernate 통계로 실행된 SQL 문 수를 세어, 페이지 크기와 관계없이 작성자 조회(N+1)가 없는지 검증합니다.
+ * 목록 항목에는 본문 대신 쿼리에서 잘라 온 미리보기만 담기는지도 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class BoardRepositoryTest {
+
+    private static final int AUTHORS = 3;
+
+    private static final int BOARDS = 30;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 작성자 3명이 게시글 30개를 번갈아 작성
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(entityManager.persist(User.builder()
+                    .nickname("author" + i)
+                    .email("author" + i + "@example.com")
+                    .password("password123")
+                    .build()));
+        }
+
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 12, 0);
+        for (int i = 0; i < BOARDS; i++) {
+            entityManager.persist(Board.builder()
+                    .title("게시글 " + i)
+                    .content("내용 " + i)
+                    .category("일반")
+                    .author(authors.get(i % AUTHORS))
+                    .viewCount((long) i)
+                    .likeCount(0L)
+                    .commentCount(0L)
+                    .status(Board.BoardStatus.ACTIVE)
+                    .createdAt(base.plusMinutes(i))
+                    .updatedAt(base.plusMinutes(i))
+                    .build());
+        }
+
+        // 영속성 컨텍스트를 비워 작성자를 캐시에서 꺼내 쓰지 못하게 함
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 25})
+    @DisplayName("목록 조회는 페이지 크기와 관계없이 COUNT 없이 목록 쿼리 한 번만 실행")
+    void findBoardSummarys_StatementCountIndependentOfPageSize(int size) {
+        // given
+        statistics.clear();
+
+        // when
+        Slice<BoardSummary> page = boardRepository.findBoardSummaries(PageRequest.of(0, size));
+
+        // then
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getContent()).allSatisfy(board ->
+                assertThat(board.getAuthor().getNickname()).startsWith("author"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 25})
+    @DisplayName("인기 게시글 커서 조회는 페이지 크기와 관계없이 쿼리 한 번만 실행")
+    void findPopularBoardsBefore_StatementCountIndependentOfPageSize(int size) {
+        // given
+        statistics.clear();
+
+        // when
+        List<BoardSummary> boards = boardRepository.findPopularBoardsBefore(
+                Long.MAX_VALUE, LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE, PageRequest.of(0, size));
+
+        // then
+        assertThat(boards).hasSize(size);
+        assertThat(boards.get(0).getViewCount()).isEqualTo(BOARDS - 1L);
+        assertThat(boards).allSatisfy(board ->
+                assertThat(board.getAuthor().getEmail()).endsWith("@example.com"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 본문 대신 쿼리에서 잘라 온 미리보기만 반환")
+    void findBoardSummaries_ReturnsPreviewInsteadOfContent() {
+        // given
+        User author = entityManager.persist(User.builder()
+                .nickname("writer")
+                .email("writer@example.com")
+                .password("password123")
+                .build());
+        entityManager.persist(Board.builder()
+                .title("긴 게시글")
+                .content("가".repeat(BoardSummary.PREVIEW_LENGTH * 50))
+                .category("일반")
+                .author(author)
+                .viewCount(0L)
+                .likeCount(0L)
+                .commentCount(0L)
+                .status(Board.BoardStatus.ACTIVE)
+                .createdAt(LocalDateTime.of(2024, 6, 1, 12, 0))
+                .updatedAt(LocalDateTime.of(2024, 6, 1, 12, 0))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<BoardSummary> boards = boardRepository.findBoardSummaries(PageRequest.of(0, 2)).getContent();
+
+        // then
+        assertThat(boards.get(0).getTitle()).isEqualTo("긴 게시글");
+        assertThat(boards.get(0).getContentPreview())
+                .isEqualTo("가".repeat(BoardSummary.PREVIEW_LENGTH) + "...");
+        assertThat(boards.get(1).getContentPreview()).isEqualTo("내용 " + (BOARDS - 1));
+    }
+}
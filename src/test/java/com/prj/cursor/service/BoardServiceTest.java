@@ -1,5 +1,8 @@
 package com.prj.cursor.service;
 
+import com.prj.cursor.dto.BoardCursor;
+import com.prj.cursor.dto.BoardSummary;
+import com.prj.cursor.dto.CursorPage;
 import com.prj.cursor.entity.Board;
 import com.prj.cursor.entity.User;
 import com.prj.cursor.repository.BoardRepository;
@@ -15,6 +18,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -45,6 +49,12 @@ class BoardServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private BoardCounterService boardCounterService;
+
+    @Mock
+    private BoardSearchIndex boardSearchIndex;
+
     @InjectMocks
     private BoardService boardService;
 
@@ -106,6 +116,7 @@ class BoardServiceTest {
 
         verify(userRepository).findById(userNo);
         verify(boardRepository).save(any(Board.class));
+        verify(boardSearchIndex).index(any(Board.class));
     }
 
     @Test
@@ -184,6 +195,7 @@ class BoardServiceTest {
 
         verify(boardRepository).findById(boardNo);
         verify(boardRepository).save(any(Board.class));
+        verify(boardCounterService).moved("일반", testBoard);
     }
 
     @Test
@@ -277,4 +289,135 @@ class BoardServiceTest {
         verify(boardRepository).decrementCommentCount(boardNo);
     }
 
+    @Test
+    @DisplayName("게시글 목록 조회 - 전체 개수는 COUNT 쿼리 대신 카운터에서 읽음")
+    void getBoards_UsesCounterForTotal() {
+        // given
+        List<BoardSummary> content = List.of(BoardSummary.from(testBoard));
+        when(boardRepository.findBoardSummaries(pageable)).thenReturn(new SliceImpl<>(content, pageable, true));
+        when(boardCounterService.getTotalCount()).thenReturn(42L);
+
+        // when
+        Page<BoardSummary> result = boardService.getBoards(pageable);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(42L);
+        verify(boardRepository, never()).countByIsActive(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - 검색 색인의 관련도 순서대로 반환")
+    void searchBoards_UsesIndexOrder() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(boardSearchIndex.search("스프링", 0, 10))
+                .thenReturn(Optional.of(new BoardSearchIndex.SearchHits(List.of(3L, 1L, 2L), 25)));
+        when(boardRepository.findBoardSummariesByIds(List.of(3L, 1L, 2L)))
+                .thenReturn(List.of(board(1L, createdAt), board(3L, createdAt)));
+
+        // when
+        Page<BoardSummary> result = boardService.searchBoards("스프링", pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(BoardSummary::getBoardNo).containsExactly(3L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(24L);
+        verify(boardRepository, never()).searchBoardSummaries(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - DB에서 빠진 게시글은 전체 개수에서도 제외")
+    void searchBoards_ExcludesMissingBoardsFromTotal() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(boardSearchIndex.search("스프링", 0, 10))
+                .thenReturn(Optional.of(new BoardSearchIndex.SearchHits(List.of(2L, 1L), 2)));
+        when(boardRepository.findBoardSummariesByIds(List.of(2L, 1L)))
+                .thenReturn(List.of(board(1L, createdAt)));
+
+        // when
+        Page<BoardSummary> result = boardService.searchBoards("스프링", pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(BoardSummary::getBoardNo).containsExactly(1L);
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - 검색 색인을 사용할 수 없으면 LIKE 검색으로 처리")
+    void searchBoards_FallsBackToLikeSearch() {
+        // given
+        Page<BoardSummary> fallback = new PageImpl<>(List.of(BoardSummary.from(testBoard)), pageable, 1);
+        when(boardSearchIndex.search("a", 0, 10)).thenReturn(Optional.empty());
+        when(boardRepository.searchBoardSummaries("a", pageable)).thenReturn(fallback);
+
+        // when
+        Page<BoardSummary> result = boardService.searchBoards("a", pageable);
+
+        // then
+        assertThat(result).isSameAs(fallback);
+        verify(boardRepository, never()).findBoardSummariesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 - 이미 삭제된 게시글이면 카운터를 줄이지 않음")
+    void deleteBoard_AlreadyDeletedKeepsCounter() {
+        // given
+        Long boardNo = 1L;
+        when(boardRepository.findById(boardNo)).thenReturn(Optional.of(testBoard));
+        when(boardRepository.updateIsActive(boardNo, false)).thenReturn(1).thenReturn(0);
+
+        // when
+        boardService.deleteBoard(boardNo);
+        boardService.deleteBoard(boardNo);
+
+        // then
+        verify(boardCounterService, times(1)).removed(testBoard);
+    }
+
+    @Test
+    @DisplayName("게시글 커서 조회 - 다음 페이지가 있으면 마지막 게시글 기준 커서 반환")
+    void getBoardsByCursor_ReturnsNextCursor() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<BoardSummary> rows = List.of(board(3L, createdAt), board(2L, createdAt), board(1L, createdAt.minusDays(1)));
+        when(boardRepository.findActiveBoardsBefore(any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 3))))
+                .thenReturn(rows);
+
+        // when
+        CursorPage<BoardSummary> result = boardService.getBoardsByCursor(null, 2);
+
+        // then
+        assertThat(result.getContent()).extracting(BoardSummary::getBoardNo).containsExactly(3L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+
+        BoardCursor next = BoardCursor.decode(BoardCursor.Order.LATEST, result.getNextCursor());
+        assertThat(next.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(next.getBoardNo()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("게시글 커서 조회 - 다른 정렬의 커서는 거부")
+    void getBoardsByCursor_RejectsCursorOfOtherOrder() {
+        // given
+        String popularCursor = BoardCursor.after(BoardCursor.Order.POPULAR, BoardSummary.from(testBoard)).encode();
+
+        // when & then
+        assertThatThrownBy(() -> boardService.getBoardsByCursor(popularCursor, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        verifyNoInteractions(boardRepository);
+    }
+
+    private BoardSummary board(Long boardNo, LocalDateTime createdAt) {
+        return BoardSummary.builder()
+                .boardNo(boardNo)
+                .title("게시글 " + boardNo)
+                .contentPreview("내용")
+                .viewCount(0L)
+                .createdAt(createdAt)
+                .build();
+    }
+
 } 
\ No newline at end of file
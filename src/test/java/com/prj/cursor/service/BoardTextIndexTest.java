@@ -0,0 +1,91 @@
+package com.prj.cursor.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoardTextIndex 단위 테스트
+ */
+class BoardTextIndexTest {
+
+    @Test
+    @DisplayName("띄어쓰기나 조사와 관계없이 한글 검색어가 본문 일부와 일치")
+    void search_MatchesKoreanSubstring() {
+        // given
+        BoardTextIndex index = new BoardTextIndex();
+        index.put(1L, "공지", "스프링부트에서 검색 기능을 구현했습니다.");
+        index.put(2L, "잡담", "오늘 점심은 김치찌개");
+
+        // when
+        BoardSearchIndex.SearchHits hits = index.search(BoardTextIndex.queryTokens("스프링 부트"), 0, 10);
+
+        // then
+        assertThat(hits.getBoardNos()).containsExactly(1L);
+        assertThat(hits.getTotal()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("제목에 나온 검색어가 본문에만 나온 검색어보다 앞 순위, 같은 점수는 최신 게시글 먼저")
+    void search_RanksTitleMatchesFirst() {
+        // given
+        BoardTextIndex index = new BoardTextIndex();
+        index.put(1L, "자유 게시글", "Redis 캐시 적용 후기");
+        index.put(2L, "Redis 캐시 정리", "설정 방법");
+        index.put(3L, "자유 게시글", "Redis 캐시 적용 후기");
+
+        // when
+        BoardSearchIndex.SearchHits hits = index.search(BoardTextIndex.queryTokens("redis"), 0, 10);
+
+        // then
+        assertThat(hits.getBoardNos()).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("전체 일치 수는 유지하고 요청한 구간만 반환")
+    void search_ReturnsRequestedPage() {
+        // given
+        BoardTextIndex index = new BoardTextIndex();
+        for (long boardNo = 1; boardNo <= 25; boardNo++) {
+            index.put(boardNo, "게시글", "페이지 테스트");
+        }
+
+        // when
+        BoardSearchIndex.SearchHits hits = index.search(BoardTextIndex.queryTokens("페이지"), 20, 10);
+
+        // then
+        assertThat(hits.getTotal()).isEqualTo(25L);
+        assertThat(hits.getBoardNos()).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 내용은 검색되지 않고, 제거하면 검색 결과에서 빠짐")
+    void putAndRemove_UpdatePostings() {
+        // given
+        BoardTextIndex index = new BoardTextIndex();
+        index.put(1L, "카프카 설정", "파티션 수 조정");
+        index.put(2L, "카프카 운영", "컨슈머 지연 모니터링");
+
+        // when
+        index.put(1L, "레디스 설정", "메모리 정책");
+        index.remove(2L);
+
+        // then
+        assertThat(index.search(BoardTextIndex.queryTokens("카프카"), 0, 10).getTotal()).isZero();
+        assertThat(index.search(BoardTextIndex.queryTokens("레디스"), 0, 10).getBoardNos()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 글자 단어가 있거나 글자가 없는 검색어는 색인으로 처리하지 않음")
+    void queryTokens_RejectsUnsupportedQueries() {
+        assertThat(BoardTextIndex.queryTokens("a")).isNull();
+        assertThat(BoardTextIndex.queryTokens("C 언어")).isNull();
+        assertThat(BoardTextIndex.queryTokens("!!")).isNull();
+        assertThat(BoardTextIndex.queryTokens(null)).isNull();
+        assertThat(BoardTextIndex.queryTokens("ＪＰＡ")).isEqualTo(List.of("jp", "pa"));
+    }
+}
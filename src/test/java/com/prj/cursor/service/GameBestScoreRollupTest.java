@@ -0,0 +1,84 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.ScoreEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GameBestScoreRollup 단위 테스트
+ */
+class GameBestScoreRollupTest {
+
+    @Test
+    @DisplayName("(게임, 사용자)별 최고 점수와 마지막 닉네임만 남기고 잠금 순서대로 정렬")
+    void coalesce_KeepsBestScoreAndLatestNicknameInLockOrder() {
+        // given
+        List<ScoreEvent> events = List.of(
+                event("tetris", 2L, "bob", 10),
+                event("snake", 2L, "bob", 300),
+                event("snake", 1L, "alice", 100),
+                event("snake", 2L, "bobby", 200),
+                event("snake", 1L, "alice", 500));
+
+        // when
+        List<ScoreEvent> result = GameBestScoreRollup.coalesce(events);
+
+        // then
+        assertThat(result).extracting(ScoreEvent::getGameType).containsExactly("snake", "snake", "tetris");
+        assertThat(result).extracting(ScoreEvent::getUserId).containsExactly(1L, 2L, 2L);
+        assertThat(result).extracting(ScoreEvent::getScore).containsExactly(500, 300, 10);
+        assertThat(result.get(1).getNickname()).isEqualTo("bobby");
+    }
+
+    @Test
+    @DisplayName("초기 적재 기록이 없으면 기록을 남기고 game_scores에서 적재")
+    void backfillOnce_RunsWhenNotRecorded() {
+        // given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        GameBestScoreRollup rollup = new GameBestScoreRollup(jdbcTemplate, TransactionOperations.withoutTransaction());
+
+        // when
+        rollup.backfillOnce();
+
+        // then
+        verify(jdbcTemplate).update(startsWith("INSERT INTO data_migrations"),
+                eq(GameBestScoreRollup.BACKFILL_MIGRATION), any(Timestamp.class));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO game_best_scores"));
+    }
+
+    @Test
+    @DisplayName("초기 적재 기록이 있으면 롤업에 행이 없어도 다시 적재하지 않음")
+    void backfillOnce_SkipsWhenAlreadyRecorded() {
+        // given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(startsWith("INSERT INTO data_migrations"), any(), any()))
+                .thenThrow(new DuplicateKeyException("already applied"));
+        GameBestScoreRollup rollup = new GameBestScoreRollup(jdbcTemplate, TransactionOperations.withoutTransaction());
+
+        // when
+        rollup.backfillOnce();
+
+        // then
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO game_best_scores"));
+    }
+
+    private ScoreEvent event(String gameType, Long userId, String nickname, int score) {
+        return ScoreEvent.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .score(score)
+                .gameType(gameType)
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+}
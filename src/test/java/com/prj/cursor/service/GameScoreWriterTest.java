@@ -0,0 +1,140 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.ScoreEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * GameScoreWriter 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GameScoreWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private GameBestScoreRollup bestScoreRollup;
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 점수를 한 번의 배치로 저장")
+    void stop_FlushesPendingScores() throws InterruptedException {
+        // given - 백그라운드 스레드 없이 큐에만 쌓음
+        GameScoreWriter writer = new GameScoreWriter(jdbcTemplate, bestScoreRollup,
+                TransactionOperations.withoutTransaction(), 100, 50,
+                Duration.ofMillis(200), Duration.ofMillis(10));
+        for (int i = 0; i < 3; i++) {
+            writer.enqueue(scoreEvent(i));
+        }
+
+        // when
+        writer.stop();
+
+        // then
+        ArgumentCaptor<BatchPreparedStatementSetter> captor = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue().getBatchSize()).isEqualTo(3);
+        verify(bestScoreRollup, times(1)).upsert(argThat(events -> events.size() == 3));
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 직접 저장")
+    void enqueue_WritesOnCallerThreadWhenQueueIsFull() {
+        // given
+        GameScoreWriter writer = new GameScoreWriter(jdbcTemplate, bestScoreRollup,
+                TransactionOperations.withoutTransaction(), 1, 50,
+                Duration.ofMillis(200), Duration.ofMillis(10));
+        writer.enqueue(scoreEvent(1));
+
+        // when
+        writer.enqueue(scoreEvent(2));
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        assertThat(writer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 한 건씩 다시 저장해 실패한 점수만 버림")
+    void stop_RetriesRowByRowWhenBatchFails() throws InterruptedException {
+        // given - score가 -1인 점수는 DB에서 거부된다고 가정
+        GameScoreWriter writer = new GameScoreWriter(jdbcTemplate, bestScoreRollup,
+                TransactionOperations.withoutTransaction(), 100, 50,
+                Duration.ofMillis(200), Duration.ofMillis(10));
+        lenient().doThrow(new DataIntegrityViolationException("poison"))
+                .when(bestScoreRollup).upsert(argThat(events -> events.stream().anyMatch(e -> e.getScore() == -1)));
+        writer.enqueue(scoreEvent(1));
+        writer.enqueue(scoreEvent(-1));
+        writer.enqueue(scoreEvent(2));
+
+        // when
+        writer.stop();
+
+        // then - 배치 1회 + 한 건씩 3회
+        verify(jdbcTemplate, times(4)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        verify(bestScoreRollup).upsert(argThat(events -> events.size() == 1 && events.get(0).getScore() == 1));
+        verify(bestScoreRollup).upsert(argThat(events -> events.size() == 1 && events.get(0).getScore() == 2));
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 후 들어온 점수는 큐에 남기지 않고 호출 스레드에서 저장")
+    void enqueue_WritesOnCallerThreadAfterStop() throws InterruptedException {
+        // given
+        GameScoreWriter writer = new GameScoreWriter(jdbcTemplate, bestScoreRollup,
+                TransactionOperations.withoutTransaction(), 100, 50,
+                Duration.ofMillis(200), Duration.ofMillis(10));
+        writer.stop();
+
+        // when
+        writer.enqueue(scoreEvent(1));
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("컬럼 제약을 어기는 점수는 큐에 넣기 전에 거부")
+    void enqueue_RejectsUnstorableScores() {
+        // given
+        GameScoreWriter writer = new GameScoreWriter(jdbcTemplate, bestScoreRollup,
+                TransactionOperations.withoutTransaction(), 100, 50,
+                Duration.ofMillis(200), Duration.ofMillis(10));
+        ScoreEvent missingScore = scoreEvent(1);
+        missingScore.setScore(null);
+        ScoreEvent longGameType = scoreEvent(1);
+        longGameType.setGameType("snake-with-a-very-long-name");
+
+        // when & then
+        assertThatThrownBy(() -> writer.enqueue(missingScore)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> writer.enqueue(longGameType)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    private ScoreEvent scoreEvent(int score) {
+        return ScoreEvent.builder()
+                .userId(1L)
+                .nickname("alice")
+                .score(score)
+                .gameType("snake")
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+}
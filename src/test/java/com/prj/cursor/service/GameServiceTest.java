@@ -0,0 +1,360 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.RankingEntry;
+import com.prj.cursor.dto.ScoreEvent;
+import com.prj.cursor.repository.GameBestScoreRepository;
+import com.prj.cursor.repository.GameScoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GameService 단위 테스트
+ *
+ * 수집 모드별로 점수 하나가 요청 경로와 컨슈머를 거친 뒤
+ * DB 저장, 랭킹 반영, 브로드캐스트 요청이 각각 정확히 한 번씩 일어나는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class GameServiceTest {
+
+    @Mock
+    private GameScoreRepository gameScoreRepository;
+
+    @Mock
+    private GameBestScoreRepository gameBestScoreRepository;
+
+    @Mock
+    private GameScoreWriter gameScoreWriter;
+
+    @Mock
+    private NicknameResolver nicknameResolver;
+
+    @Mock
+    private LocalRankingEngine localRankingEngine;
+
+    @Mock
+    private RedisRankingStore rankingStore;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private RankingCache rankingCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private GameTypes gameTypes = new GameTypes(List.of("snake"));
+
+    @InjectMocks
+    private GameService gameService;
+
+    private ScoreEventConsumer scoreEventConsumer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(rankingStore.submitBestScore(any(ScoreEvent.class)))
+                .thenReturn(new RedisRankingStore.BestScoreResult(true, 1L));
+        lenient().when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        scoreEventConsumer = new ScoreEventConsumer(gameService);
+        ReflectionTestUtils.setField(gameService, "undeliveredQueueCapacity", 16);
+        gameService.startUndeliveredExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameService.stopUndeliveredExecutor();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ScoreIngestionMode.class)
+    @DisplayName("모든 수집 모드에서 점수 하나당 저장, 랭킹 반영, 브로드캐스트가 한 번씩 일어남")
+    void submitScore_ExactlyOnceInEveryMode(ScoreIngestionMode mode) {
+        // given
+        ReflectionTestUtils.setField(gameService, "ingestionMode", mode);
+
+        // when
+        gameService.submitScore(1L, "alice", 300, "snake");
+        deliverPublishedEvents();
+
+        // then
+        verify(gameScoreWriter, times(1)).enqueue(any(ScoreEvent.class));
+        verify(rankingStore, times(1)).submitBestScore(argThat(event -> event.getScore() == 300));
+        verify(eventPublisher, times(1)).publishEvent(any(RankingChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("DIRECT 모드는 Kafka로 이벤트를 보내지 않음")
+    void submitScore_DirectModeSkipsKafka() {
+        // given
+        ReflectionTestUtils.setField(gameService, "ingestionMode", ScoreIngestionMode.DIRECT);
+
+        // when
+        gameService.submitScore(1L, "alice", 300, "snake");
+
+        // then
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드의 요청 경로는 게임 타입을 키로 Kafka 전송만 수행")
+    void submitScore_AsyncModeOnlyEnqueues() {
+        // given
+        ReflectionTestUtils.setField(gameService, "ingestionMode", ScoreIngestionMode.ASYNC);
+
+        // when
+        gameService.submitScore(1L, "alice", 300, "snake");
+
+        // then
+        verify(kafkaTemplate, times(1)).send(eq("game-scores"), eq("snake"), any(ScoreEvent.class));
+        verify(gameScoreWriter, never()).enqueue(any());
+        verifyNoInteractions(rankingStore);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드에서 Kafka 전송이 실패하면 요청 경로에서 한 번만 처리")
+    void submitScore_AsyncModeFallsBackWhenKafkaFails() {
+        // given
+        ReflectionTestUtils.setField(gameService, "ingestionMode", ScoreIngestionMode.ASYNC);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenThrow(new IllegalStateException("broker down"));
+
+        // when
+        gameService.submitScore(1L, "alice", 300, "snake");
+
+        // then
+        verify(gameScoreWriter, times(1)).enqueue(any(ScoreEvent.class));
+        verify(rankingStore, times(1)).submitBestScore(argThat(event -> event.getScore() == 300));
+        verify(eventPublisher, times(1)).publishEvent(any(RankingChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드에서 전송 요청 후 브로커 전송이 실패하면 전송 콜백이 아닌 별도 스레드에서 한 번만 처리")
+    void submitScore_AsyncModeFallsBackWhenSendCompletesExceptionally() {
+        // given
+        ReflectionTestUtils.setField(gameService, "ingestionMode", ScoreIngestionMode.ASYNC);
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("delivery timeout")));
+        AtomicReference<String> persistThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            persistThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(gameScoreWriter).enqueue(any(ScoreEvent.class));
+
+        // when
+        gameService.submitScore(1L, "alice", 300, "snake");
+
+        // then
+        verify(gameScoreWriter, timeout(1000).times(1)).enqueue(any(ScoreEvent.class));
+        verify(rankingStore, timeout(1000).times(1)).submitBestScore(argThat(event -> event.getScore() == 300));
+        verify(eventPublisher, timeout(1000).times(1)).publishEvent(any(RankingChangedEvent.class));
+        assertThat(persistThread.get()).isEqualTo("score-undelivered");
+    }
+
+    @Test
+    @DisplayName("HYBRID 모드에서 브로커 전송이 실패하면 전송 콜백에서 DB 저장만 처리")
+    void submitScore_HybridModePersistsWhenSendCompletesExceptionally() {
+        // given
+        ReflectionTestUtils.setField(gameService, "ingestionMode", ScoreIngestionMode.HYBRID);
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("delivery timeout")));
+
+        // when
+        gameService.submitScore(1L, "alice", 300, "snake");
+
+        // then
+        verify(gameScoreWriter, timeout(1000).times(1)).enqueue(any(ScoreEvent.class));
+        verify(rankingStore, times(1)).submitBestScore(any(ScoreEvent.class));
+    }
+
+    @Test
+    @DisplayName("요청 경로에서 랭킹을 반영하면 반영 후 순위를 반환")
+    void submitScore_ReturnsRankFromScript() {
+        // given
+        ReflectionTestUtils.setField(gameService, "ingestionMode", ScoreIngestionMode.DIRECT);
+        when(rankingStore.submitBestScore(any(ScoreEvent.class)))
+                .thenReturn(new RedisRankingStore.BestScoreResult(true, 7L));
+
+        // when
+        Long rank = gameService.submitScore(1L, "alice", 300, "snake");
+
+        // then
+        assertThat(rank).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("개인 최고 기록보다 낮은 점수는 랭킹 변경 이벤트를 발행하지 않음")
+    void updateRanking_NoBroadcastWhenNotImproved() {
+        // given
+        ScoreEvent scoreEvent = ScoreEvent.builder()
+                .userId(1L).nickname("alice").score(100).gameType("snake").build();
+        when(rankingStore.submitBestScore(scoreEvent))
+                .thenReturn(new RedisRankingStore.BestScoreResult(false, 3L));
+
+        // when
+        Long rank = gameService.updateRanking(scoreEvent);
+
+        // then
+        assertThat(rank).isEqualTo(3L);
+        verifyNoInteractions(eventPublisher);
+        verifyNoInteractions(rankingCache);
+    }
+
+    @Test
+    @DisplayName("userId 없는 점수는 거부")
+    void submitScore_RejectsMissingUserId() {
+        // given
+        ReflectionTestUtils.setField(gameService, "ingestionMode", ScoreIngestionMode.DIRECT);
+
+        // when & then
+        assertThatThrownBy(() -> gameService.submitScore(null, "alice", 300, "snake"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(rankingStore, gameScoreWriter);
+    }
+
+    @Test
+    @DisplayName("점수나 닉네임이 없거나 알 수 없는 게임 타입의 점수는 저장 전에 거부")
+    void submitScore_RejectsUnstorableScores() {
+        // given
+        ReflectionTestUtils.setField(gameService, "ingestionMode", ScoreIngestionMode.ASYNC);
+
+        // when & then
+        assertThatThrownBy(() -> gameService.submitScore(1L, "alice", null, "snake"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gameService.submitScore(1L, null, 300, "snake"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gameService.submitScore(1L, "alice", 300, "snake-with-a-very-long-name"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gameService.submitScore(1L, "alice", 300, "tetris"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(rankingStore, gameScoreWriter, kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("랭킹 조회 시 userId 멤버를 닉네임으로 변환")
+    void getRankings_ResolvesNicknamesForUserIdMembers() {
+        // given
+        when(rankingCache.getTopN()).thenReturn(100);
+        Set<ZSetOperations.TypedTuple<String>> members = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("2", 500.0),
+                new DefaultTypedTuple<>("1", 300.0)));
+        when(rankingStore.range("snake", RankingWindow.ALL_TIME, 0, 100)).thenReturn(members);
+        when(nicknameResolver.resolve(List.of(2L, 1L))).thenReturn(Map.of(2L, "bob", 1L, "alice"));
+
+        // when
+        List<RankingEntry> rankings = gameService.getRankings("snake", 0, 10);
+
+        // then
+        assertThat(rankings).extracting(RankingEntry::getUserId).containsExactly(2L, 1L);
+        assertThat(rankings).extracting(RankingEntry::getNickname).containsExactly("bob", "alice");
+        assertThat(rankings).extracting(RankingEntry::getRank).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("일간 랭킹은 캐시를 거치지 않고 현재 기간 키에서 조회")
+    void getRankings_DailyWindowBypassesCache() {
+        // given
+        Set<ZSetOperations.TypedTuple<String>> members = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("1", 300.0)));
+        when(rankingStore.range("snake", RankingWindow.DAILY, 0, 10)).thenReturn(members);
+        when(nicknameResolver.resolve(List.of(1L))).thenReturn(Map.of(1L, "alice"));
+
+        // when
+        List<RankingEntry> rankings = gameService.getRankings("snake", RankingWindow.DAILY, 0, 10);
+
+        // then
+        assertThat(rankings).extracting(RankingEntry::getNickname).containsExactly("alice");
+        verifyNoInteractions(rankingCache);
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 실패하면 준비된 인메모리 랭킹에서 조회하고 캐시에는 적재하지 않음")
+    void getRankings_FallsBackToLocalEngineWhenRedisFails() {
+        // given
+        when(rankingCache.getTopN()).thenReturn(100);
+        when(rankingStore.range("snake", RankingWindow.ALL_TIME, 0, 100))
+                .thenThrow(new IllegalStateException("redis down"));
+        when(localRankingEngine.isWarm()).thenReturn(true);
+        when(localRankingEngine.top("snake", 0, 10)).thenReturn(List.of(
+                new LocalRankingEngine.RankedScore(1L, 300, 1)));
+        when(nicknameResolver.resolve(List.of(1L))).thenReturn(Map.of(1L, "alice"));
+
+        // when
+        List<RankingEntry> rankings = gameService.getRankings("snake", 0, 10);
+
+        // then
+        assertThat(rankings).extracting(RankingEntry::getNickname).containsExactly("alice");
+        verifyNoInteractions(gameScoreRepository, gameBestScoreRepository);
+        verify(rankingCache, never()).put(anyString(), anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("Redis 랭킹이 1위부터 비어 있으면 재구성 요청 이벤트를 발행")
+    void getRankings_PublishesMissingEventWhenRedisIsEmpty() {
+        // given
+        when(rankingStore.range("snake", RankingWindow.DAILY, 0, 10)).thenReturn(Set.of());
+
+        // when
+        gameService.getRankings("snake", RankingWindow.DAILY, 0, 10);
+
+        // then
+        ArgumentCaptor<RankingMissingEvent> captor = ArgumentCaptor.forClass(RankingMissingEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getGameType()).isEqualTo("snake");
+        assertThat(captor.getValue().getWindow()).isEqualTo(RankingWindow.DAILY);
+    }
+
+    @Test
+    @DisplayName("랭킹 키는 있고 마지막 순위 이후 구간이면 대체 경로 없이 빈 목록 반환")
+    void getRankings_ReturnsEmptyPagePastTheEnd() {
+        // given
+        when(rankingStore.range("snake", RankingWindow.DAILY, 50, 10)).thenReturn(Set.of());
+        when(rankingStore.size("snake", RankingWindow.DAILY)).thenReturn(30L);
+
+        // when
+        List<RankingEntry> rankings = gameService.getRankings("snake", RankingWindow.DAILY, 50, 10);
+
+        // then
+        assertThat(rankings).isEmpty();
+        verifyNoInteractions(gameScoreRepository, gameBestScoreRepository, localRankingEngine);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * 요청 경로에서 Kafka로 보낸 이벤트를 컨슈머에 전달
+     */
+    private void deliverPublishedEvents() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, atLeast(0)).send(eq("game-scores"), anyString(), captor.capture());
+        for (Object event : captor.getAllValues()) {
+            scoreEventConsumer.handleScoreEvent((ScoreEvent) event);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.repository.GameScoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * LeaderboardRebuildService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaderboardRebuildServiceTest {
+
+    @Mock
+    private GameScoreRepository gameScoreRepository;
+
+    @Mock
+    private RedisRankingStore rankingStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LeaderboardRebuildService rebuildService;
+
+    @BeforeEach
+    void setUp() {
+        GameTypes gameTypes = new GameTypes(List.of("snake"));
+        rebuildService = new LeaderboardRebuildService(gameScoreRepository, rankingStore,
+                new RankingCache(gameTypes, 100, 64, Duration.ofMinutes(10), Duration.ofSeconds(5)),
+                gameTypes, eventPublisher, transactionManager,
+                1000, 1, Duration.ofMinutes(1), false);
+        rebuildService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rebuildService.stop();
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 게임 타입의 빈 랭킹은 재구성하지 않고 진행 상황에도 남기지 않음")
+    void onRankingMissing_IgnoresUnknownGameTypes() {
+        // when
+        rebuildService.onRankingMissing(new RankingMissingEvent("no-such-game", RankingWindow.ALL_TIME));
+
+        // then
+        assertThat(rebuildService.getProgress()).isEmpty();
+        verifyNoInteractions(gameScoreRepository, rankingStore);
+    }
+
+    @Test
+    @DisplayName("해당 기간에 점수 이력이 없으면 자동 재구성은 Redis를 건드리지 않고 끝남")
+    void onRankingMissing_SkipsWhenWindowHasNoScores() throws InterruptedException {
+        // given
+        when(gameScoreRepository.existsByGameTypeAndCreatedAtGreaterThanEqual(eq("snake"), any(LocalDateTime.class)))
+                .thenReturn(false);
+
+        // when
+        rebuildService.onRankingMissing(new RankingMissingEvent("snake", RankingWindow.DAILY));
+
+        // then
+        LeaderboardRebuildService.RebuildProgress progress = rebuildService.getProgress().get(0);
+        for (int i = 0; i < 100 && progress.getState() == LeaderboardRebuildService.RebuildState.RUNNING; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(progress.getState()).isEqualTo(LeaderboardRebuildService.RebuildState.COMPLETED);
+        verify(rankingStore, never()).rebuild(any(), any(), any(), any());
+    }
+}
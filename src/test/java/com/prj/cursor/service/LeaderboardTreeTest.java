@@ -0,0 +1,105 @@
+package com.prj.cursor.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LeaderboardTree 단위 테스트
+ */
+class LeaderboardTreeTest {
+
+    @Test
+    @DisplayName("사용자별 최고 점수만 유지하고 점수 내림차순, 같은 점수는 userId 오름차순으로 정렬")
+    void submit_KeepsBestScoreInRankOrder() {
+        // given
+        LeaderboardTree tree = new LeaderboardTree(10);
+
+        // when
+        assertThat(tree.submit(1L, 100)).isTrue();
+        assertThat(tree.submit(2L, 300)).isTrue();
+        assertThat(tree.submit(3L, 100)).isTrue();
+        assertThat(tree.submit(1L, 50)).isFalse();
+        assertThat(tree.submit(3L, 200)).isTrue();
+
+        // then
+        long[] userIds = new long[3];
+        int[] scores = new int[3];
+        assertThat(tree.range(0, 10, userIds, scores)).isEqualTo(3);
+        assertThat(userIds).containsExactly(2L, 3L, 1L);
+        assertThat(scores).containsExactly(300, 200, 100);
+        assertThat(tree.rankOf(1L)).isEqualTo(3);
+        assertThat(tree.rankOf(99L)).isZero();
+    }
+
+    @Test
+    @DisplayName("capacity를 넘으면 가장 낮은 항목을 버리고, 그보다 낮은 점수는 받지 않음")
+    void submit_EvictsLowestWhenFull() {
+        // given
+        LeaderboardTree tree = new LeaderboardTree(3);
+        tree.submit(1L, 100);
+        tree.submit(2L, 200);
+        tree.submit(3L, 300);
+
+        // when
+        boolean rejected = tree.submit(4L, 50);
+        boolean accepted = tree.submit(5L, 150);
+
+        // then
+        assertThat(rejected).isFalse();
+        assertThat(accepted).isTrue();
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.scoreOf(1L)).isNull();
+        assertThat(tree.rankOf(5L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("무작위 반영 결과가 정렬 집합 모델과 같음")
+    void submit_MatchesSortedSetModel() {
+        // given
+        LeaderboardTree tree = new LeaderboardTree(1000);
+        TreeSet<long[]> model = new TreeSet<>(Comparator
+                .<long[]>comparingLong(entry -> -entry[1])
+                .thenComparingLong(entry -> entry[0]));
+        Map<Long, Long> best = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 50_000; i++) {
+            long userId = random.nextInt(800);
+            long score = random.nextInt(100_000);
+            Long current = best.get(userId);
+            boolean expected = current == null || score > current;
+
+            assertThat(tree.submit(userId, (int) score)).isEqualTo(expected);
+            if (expected) {
+                if (current != null) {
+                    model.remove(new long[]{userId, current});
+                }
+                model.add(new long[]{userId, score});
+                best.put(userId, score);
+            }
+        }
+
+        // then
+        long[] userIds = new long[1000];
+        int[] scores = new int[1000];
+        int count = tree.range(0, 1000, userIds, scores);
+        assertThat(count).isEqualTo(model.size());
+
+        int index = 0;
+        for (long[] entry : model) {
+            assertThat(userIds[index]).isEqualTo(entry[0]);
+            assertThat(scores[index]).isEqualTo((int) entry[1]);
+            assertThat(tree.rankOf(entry[0])).isEqualTo(index + 1);
+            index++;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.prj.cursor.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalRankingEngine 단위 테스트
+ */
+class LocalRankingEngineTest {
+
+    private static final GameTypes GAME_TYPES = new GameTypes(List.of("snake", "tetris"));
+
+    @Test
+    @DisplayName("사용자 주변 순위는 앞뒤 radius명을 포함하고 순위 경계에서 잘림")
+    void around_ReturnsNeighborsWithinBounds() {
+        // given
+        LocalRankingEngine engine = new LocalRankingEngine(null, null, GAME_TYPES, 100, 4);
+        for (long userId = 1; userId <= 10; userId++) {
+            engine.submit("snake", userId, (int) (1000 - userId));
+        }
+
+        // when
+        List<LocalRankingEngine.RankedScore> middle = engine.around("snake", 5L, 2);
+        List<LocalRankingEngine.RankedScore> top = engine.around("snake", 1L, 2);
+
+        // then
+        assertThat(middle).extracting(LocalRankingEngine.RankedScore::getRank).containsExactly(3, 4, 5, 6, 7);
+        assertThat(top).extracting(LocalRankingEngine.RankedScore::getUserId).containsExactly(1L, 2L, 3L);
+        assertThat(engine.around("snake", 99L, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게임 타입 한도를 넘는 새 게임 타입은 보관하지 않음")
+    void submit_IgnoresGameTypesBeyondLimit() {
+        // given
+        LocalRankingEngine engine = new LocalRankingEngine(null, null, GAME_TYPES, 100, 1);
+        engine.submit("snake", 1L, 100);
+
+        // when
+        boolean accepted = engine.submit("tetris", 1L, 100);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(engine.top("tetris", 0, 10)).isEmpty();
+        assertThat(engine.rankOf("snake", 1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 게임 타입은 한도 안이어도 보관하지 않음")
+    void submit_IgnoresUnknownGameTypes() {
+        // given
+        LocalRankingEngine engine = new LocalRankingEngine(null, null, GAME_TYPES, 100, 4);
+
+        // when
+        boolean accepted = engine.submit("retired-game", 1L, 100);
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(engine.top("retired-game", 0, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.RankingEntry;
+import com.prj.cursor.dto.RankingUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * RankingBroadcaster 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RankingBroadcasterTest {
+
+    @Mock
+    private RankingSnapshotStore snapshotStore;
+
+    @Mock
+    private RankingFramePublisher framePublisher;
+
+    private RankingBroadcaster rankingBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        rankingBroadcaster = new RankingBroadcaster(snapshotStore, framePublisher, Duration.ofMillis(100), 3);
+    }
+
+    @Test
+    @DisplayName("한 window 안의 여러 변경은 프레임 하나로 합쳐짐")
+    void flush_CoalescesRequestsWithinWindow() {
+        // given
+        when(snapshotStore.current("snake")).thenReturn(snapshot(List.of(entry(1, "alice", 300))));
+
+        // when
+        rankingBroadcaster.requestBroadcast("snake");
+        rankingBroadcaster.requestBroadcast("snake");
+        rankingBroadcaster.requestBroadcast("snake");
+        rankingBroadcaster.flush();
+        rankingBroadcaster.flush();
+
+        // then
+        verify(snapshotStore, times(1)).current("snake");
+        verify(framePublisher, times(1)).publish(anyList());
+    }
+
+    @Test
+    @DisplayName("첫 프레임은 스냅샷, 이후에는 바뀐 순위만 전송")
+    void flush_SendsSnapshotThenDelta() {
+        // given
+        when(snapshotStore.current("snake"))
+                .thenReturn(snapshot(List.of(entry(1, "alice", 300), entry(2, "bob", 200))))
+                .thenReturn(snapshot(List.of(entry(1, "alice", 300), entry(2, "carol", 250), entry(3, "bob", 200))));
+
+        // when
+        rankingBroadcaster.requestBroadcast("snake");
+        rankingBroadcaster.flush();
+        rankingBroadcaster.requestBroadcast("snake");
+        rankingBroadcaster.flush();
+
+        // then
+        ArgumentCaptor<List<RankingUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(framePublisher, times(2)).publish(captor.capture());
+
+        RankingUpdate snapshot = captor.getAllValues().get(0).get(0);
+        assertThat(snapshot.getType()).isEqualTo(RankingUpdate.Type.SNAPSHOT);
+        assertThat(snapshot.getEntries()).hasSize(2);
+
+        RankingUpdate delta = captor.getAllValues().get(1).get(0);
+        assertThat(delta.getType()).isEqualTo(RankingUpdate.Type.DELTA);
+        assertThat(delta.getSequence()).isEqualTo(snapshot.getSequence() + 1);
+        assertThat(delta.getSize()).isEqualTo(3);
+        assertThat(delta.getEntries()).extracting(RankingEntry::getRank).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("랭킹이 바뀌지 않았으면 프레임을 보내지 않음")
+    void flush_SkipsUnchangedBoard() {
+        // given
+        when(snapshotStore.current("snake")).thenReturn(snapshot(List.of(entry(1, "alice", 300))));
+
+        // when
+        rankingBroadcaster.requestBroadcast("snake");
+        rankingBroadcaster.flush();
+        rankingBroadcaster.requestBroadcast("snake");
+        rankingBroadcaster.flush();
+
+        // then
+        verify(framePublisher, times(1)).publish(anyList());
+    }
+
+    @Test
+    @DisplayName("한 window에서 만든 여러 게임의 프레임은 한 번에 전송")
+    void flush_PublishesAllGameTypesTogether() {
+        // given
+        when(snapshotStore.current("snake")).thenReturn(snapshot(List.of(entry(1, "alice", 300))));
+        when(snapshotStore.current("tetris")).thenReturn(snapshot(List.of(entry(1, "bob", 100))));
+
+        // when
+        rankingBroadcaster.requestBroadcast("snake");
+        rankingBroadcaster.requestBroadcast("tetris");
+        rankingBroadcaster.flush();
+
+        // then
+        ArgumentCaptor<List<RankingUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(framePublisher, times(1)).publish(captor.capture());
+        assertThat(captor.getValue()).extracting(RankingUpdate::getGameType)
+                .containsExactlyInAnyOrder("snake", "tetris");
+    }
+
+    private RankingSnapshot snapshot(List<RankingEntry> entries) {
+        return new RankingSnapshot("snake", 0, entries, new byte[0], "\"etag\"");
+    }
+
+    private RankingEntry entry(int rank, String nickname, int score) {
+        return RankingEntry.builder()
+                .rank(rank)
+                .nickname(nickname)
+                .score(score)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.RankingEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RankingCache 단위 테스트
+ */
+class RankingCacheTest {
+
+    private static final GameTypes GAME_TYPES = new GameTypes(List.of("snake", "tetris", "pacman", "tank"));
+
+    private RankingCache rankingCache;
+
+    @BeforeEach
+    void setUp() {
+        rankingCache = new RankingCache(GAME_TYPES, 10, 2, Duration.ofMinutes(10), Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("적재된 버전과 현재 버전이 같으면 캐시에서 구간을 반환")
+    void get_ReturnsRangeWhenVersionMatches() {
+        // given
+        long version = rankingCache.currentVersion("snake");
+        rankingCache.put("snake", version, rankings(5));
+
+        // when
+        List<RankingEntry> result = rankingCache.get("snake", 1, 2);
+
+        // then
+        assertThat(result).extracting(RankingEntry::getRank).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("점수 반영으로 버전이 올라가면 캐시 미스")
+    void get_MissAfterVersionBump() {
+        // given
+        long version = rankingCache.currentVersion("snake");
+        rankingCache.put("snake", version, rankings(5));
+
+        // when
+        rankingCache.bumpVersion("snake");
+
+        // then
+        assertThat(rankingCache.get("snake", 0, 5)).isNull();
+    }
+
+    @Test
+    @DisplayName("적재 도중 버전이 올라가면 적재된 엔트리는 무효")
+    void put_StaleVersionIsIgnored() {
+        // given
+        long version = rankingCache.currentVersion("snake");
+        rankingCache.bumpVersion("snake");
+
+        // when
+        rankingCache.put("snake", version, rankings(5));
+
+        // then
+        assertThat(rankingCache.get("snake", 0, 5)).isNull();
+    }
+
+    @Test
+    @DisplayName("상위 N위를 벗어난 구간은 캐시에서 처리하지 않음")
+    void get_RangeBeyondTopNIsMiss() {
+        // given
+        rankingCache.put("snake", rankingCache.currentVersion("snake"), rankings(10));
+
+        // when & then
+        assertThat(rankingCache.get("snake", 5, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("게임 타입 수가 한도를 넘으면 가장 오래 조회되지 않은 엔트리를 제거")
+    void put_EvictsLeastRecentlyUsedGameType() throws InterruptedException {
+        // given
+        rankingCache.put("snake", 0L, rankings(3));
+        Thread.sleep(5);
+        rankingCache.put("tetris", 0L, rankings(3));
+        Thread.sleep(5);
+        rankingCache.get("snake", 0, 3);
+
+        // when
+        rankingCache.put("pacman", 0L, rankings(3));
+
+        // then
+        assertThat(rankingCache.get("tetris", 0, 3)).isNull();
+        assertThat(rankingCache.get("snake", 0, 3)).hasSize(3);
+        assertThat(rankingCache.get("pacman", 0, 3)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("적재 후 ttl이 지나면 버전이 같아도 캐시 미스 (다른 노드에서 반영된 점수 대비)")
+    void get_MissAfterTtl() throws InterruptedException {
+        // given
+        RankingCache shortLived = new RankingCache(GAME_TYPES, 10, 2, Duration.ofMinutes(10), Duration.ofMillis(20));
+        shortLived.put("snake", shortLived.currentVersion("snake"), rankings(3));
+        assertThat(shortLived.get("snake", 0, 3)).hasSize(3);
+
+        // when
+        Thread.sleep(30);
+
+        // then
+        assertThat(shortLived.get("snake", 0, 3)).isNull();
+    }
+
+    @Test
+    @DisplayName("엔트리가 정리된 뒤에도 정리 전에 읽은 버전으로는 다시 적재되지 않음")
+    void put_StaleVersionRejectedAfterEviction() throws InterruptedException {
+        // given
+        long staleVersion = rankingCache.currentVersion("snake");
+        rankingCache.bumpVersion("snake");
+        rankingCache.put("tetris", 0L, rankings(3));
+        Thread.sleep(5);
+        rankingCache.put("pacman", 0L, rankings(3));
+        Thread.sleep(5);
+        rankingCache.put("tank", 0L, rankings(3));
+
+        // when
+        rankingCache.put("snake", staleVersion, rankings(3));
+
+        // then
+        assertThat(rankingCache.get("snake", 0, 3)).isNull();
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 게임 타입은 버전도 엔트리도 남기지 않음")
+    void unknownGameType_IsNotTracked() {
+        // when
+        long version = rankingCache.bumpVersion("no-such-game");
+        rankingCache.put("no-such-game", version, rankings(3));
+
+        // then
+        assertThat(version).isZero();
+        assertThat(rankingCache.currentVersion("no-such-game")).isZero();
+        assertThat(rankingCache.get("no-such-game", 0, 3)).isNull();
+    }
+
+    private List<RankingEntry> rankings(int count) {
+        List<RankingEntry> result = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            result.add(RankingEntry.builder()
+                    .nickname("user" + i)
+                    .score(1000 - i)
+                    .rank(i)
+                    .build());
+        }
+        return result;
+    }
+}
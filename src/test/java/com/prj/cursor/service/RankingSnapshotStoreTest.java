@@ -0,0 +1,135 @@
+package com.prj.cursor.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prj.cursor.dto.RankingEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * RankingSnapshotStore 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RankingSnapshotStoreTest {
+
+    @Mock
+    private GameService gameService;
+
+    private RankingCache rankingCache;
+
+    private RankingSnapshotStore snapshotStore;
+
+    @BeforeEach
+    void setUp() {
+        rankingCache = new RankingCache(
+                new GameTypes(List.of("snake")), 100, 64, Duration.ofMinutes(10), Duration.ofMinutes(10));
+        // playedAt(LocalDateTime) 직렬화를 위해 JavaTimeModule 등록
+        snapshotStore = new RankingSnapshotStore(gameService, rankingCache, new ObjectMapper().findAndRegisterModules(), 10, 64);
+    }
+
+    @Test
+    @DisplayName("랭킹 버전이 그대로면 인코딩된 스냅샷을 재사용")
+    void current_ReusesSnapshotUntilVersionChanges() {
+        // given
+        when(gameService.getTopRankings("snake", 10))
+                .thenReturn(List.of(entry(1, "alice", 300)))
+                .thenReturn(List.of(entry(1, "bob", 400)));
+
+        // when
+        RankingSnapshot first = snapshotStore.current("snake");
+        RankingSnapshot second = snapshotStore.current("snake");
+        rankingCache.bumpVersion("snake");
+        RankingSnapshot third = snapshotStore.current("snake");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(third.getEtag()).isNotEqualTo(first.getEtag());
+        assertThat(new String(third.getBody())).contains("bob");
+        verify(gameService, times(2)).getTopRankings("snake", 10);
+    }
+
+    @Test
+    @DisplayName("같은 랭킹이면 버전과 조회 시각(playedAt)이 달라도 ETag가 같음")
+    void current_EtagDependsOnlyOnContent() {
+        // given
+        RankingEntry earlier = entry(1, "alice", 300);
+        earlier.setPlayedAt(LocalDateTime.of(2024, 5, 1, 12, 0));
+        RankingEntry later = entry(1, "alice", 300);
+        later.setPlayedAt(LocalDateTime.of(2024, 5, 1, 12, 5));
+        when(gameService.getTopRankings("snake", 10))
+                .thenReturn(List.of(earlier))
+                .thenReturn(List.of(later));
+
+        // when
+        RankingSnapshot first = snapshotStore.current("snake");
+        rankingCache.bumpVersion("snake");
+        RankingSnapshot second = snapshotStore.current("snake");
+
+        // then
+        assertThat(second.getVersion()).isNotEqualTo(first.getVersion());
+        assertThat(second.getBody()).isNotEqualTo(first.getBody());
+        assertThat(second.getEtag()).isEqualTo(first.getEtag());
+    }
+
+    @Test
+    @DisplayName("점수가 바뀌면 ETag가 바뀜")
+    void etagOf_ChangesWithScore() {
+        assertThat(RankingSnapshotStore.etagOf(List.of(entry(1, "alice", 300))))
+                .isNotEqualTo(RankingSnapshotStore.etagOf(List.of(entry(1, "alice", 301))));
+    }
+
+    @Test
+    @DisplayName("버전이 그대로여도 캐시 ttl이 지나면 다시 만듦 (다른 노드에서 반영된 점수 대비)")
+    void current_RecreatesSnapshotAfterTtl() throws InterruptedException {
+        // given
+        RankingCache shortLived = new RankingCache(new GameTypes(List.of("snake")), 100, 64, Duration.ofMinutes(10), Duration.ofMillis(20));
+        RankingSnapshotStore store = new RankingSnapshotStore(gameService, shortLived, new ObjectMapper(), 10, 64);
+        when(gameService.getTopRankings("snake", 10))
+                .thenReturn(List.of(entry(1, "alice", 300)))
+                .thenReturn(List.of(entry(1, "bob", 400)));
+        RankingSnapshot first = store.current("snake");
+
+        // when
+        Thread.sleep(30);
+        RankingSnapshot second = store.current("snake");
+
+        // then
+        assertThat(second.getVersion()).isEqualTo(first.getVersion());
+        assertThat(new String(second.getBody())).contains("bob");
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 목록, 약한 ETag, *를 인식")
+    void matches_ParsesIfNoneMatchHeader() {
+        // given
+        when(gameService.getTopRankings("snake", 10)).thenReturn(List.of(entry(1, "alice", 300)));
+        RankingSnapshot snapshot = snapshotStore.current("snake");
+        String etag = snapshot.getEtag();
+
+        // when & then
+        assertThat(snapshot.matches(etag)).isTrue();
+        assertThat(snapshot.matches("\"other\", W/" + etag)).isTrue();
+        assertThat(snapshot.matches("*")).isTrue();
+        assertThat(snapshot.matches("\"other\"")).isFalse();
+        assertThat(snapshot.matches(null)).isFalse();
+    }
+
+    private RankingEntry entry(int rank, String nickname, int score) {
+        return RankingEntry.builder()
+                .rank(rank)
+                .nickname(nickname)
+                .score(score)
+                .build();
+    }
+}
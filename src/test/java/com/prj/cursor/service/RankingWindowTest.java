@@ -0,0 +1,55 @@
+package com.prj.cursor.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RankingWindow 단위 테스트
+ */
+class RankingWindowTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("기간 키는 지정한 시간대의 날짜와 주 시작일(월요일)로 만들어짐")
+    void key_UsesZoneLocalPeriodStart() {
+        // given - UTC로는 10월 15일이지만 서울 시간으로는 10월 16일(금) 오전
+        Instant at = ZonedDateTime.of(2026, 10, 16, 1, 0, 0, 0, SEOUL).toInstant();
+
+        // when & then
+        assertThat(RankingWindow.DAILY.key("snake", at, SEOUL)).isEqualTo("leaderboard:snake:daily:2026-10-16");
+        assertThat(RankingWindow.WEEKLY.key("snake", at, SEOUL)).isEqualTo("leaderboard:snake:weekly:2026-10-12");
+        assertThat(RankingWindow.ALL_TIME.key("snake", at, SEOUL)).isEqualTo("leaderboard:snake");
+    }
+
+    @Test
+    @DisplayName("기간의 끝은 다음 기간의 시작과 같음")
+    void end_IsNextPeriodStart() {
+        // given
+        Instant at = ZonedDateTime.of(2026, 10, 18, 23, 59, 0, 0, SEOUL).toInstant();
+
+        // when & then
+        assertThat(RankingWindow.DAILY.end(at, SEOUL))
+                .isEqualTo(ZonedDateTime.of(2026, 10, 19, 0, 0, 0, 0, SEOUL));
+        assertThat(RankingWindow.WEEKLY.end(at, SEOUL))
+                .isEqualTo(ZonedDateTime.of(2026, 10, 19, 0, 0, 0, 0, SEOUL));
+        assertThat(RankingWindow.ALL_TIME.end(at, SEOUL)).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 파라미터 값은 대소문자와 구분자를 무시하고 변환")
+    void from_ParsesRequestValues() {
+        assertThat(RankingWindow.from("daily")).isEqualTo(RankingWindow.DAILY);
+        assertThat(RankingWindow.from("WEEKLY")).isEqualTo(RankingWindow.WEEKLY);
+        assertThat(RankingWindow.from("all_time")).isEqualTo(RankingWindow.ALL_TIME);
+        assertThat(RankingWindow.from(null)).isEqualTo(RankingWindow.ALL_TIME);
+        assertThatThrownBy(() -> RankingWindow.from("monthly")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
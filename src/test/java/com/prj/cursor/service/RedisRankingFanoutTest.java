@@ -0,0 +1,178 @@
+package com.prj.cursor.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prj.cursor.dto.RankingEntry;
+import com.prj.cursor.dto.RankingUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisRankingFanout 단위 테스트
+ *
+ * 두 노드가 하나의 Redis 채널을 공유하는 상황을 흉내 내어,
+ * 한 노드에서 만든 프레임이 두 노드의 로컬 브로커에 정확히 한 번씩 전달되는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisRankingFanoutTest {
+
+    private static final String CHANNEL = "ranking-frames";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    private SimpMessagingTemplate brokerA;
+
+    @Mock
+    private SimpMessagingTemplate brokerB;
+
+    @Mock
+    private StringRedisTemplate redisA;
+
+    @Mock
+    private StringRedisTemplate redisB;
+
+    private final RankingCache cacheA = new RankingCache(new GameTypes(List.of("snake", "tetris")), 100, 64, Duration.ofMinutes(10), Duration.ofMinutes(10));
+
+    private final RankingCache cacheB = new RankingCache(new GameTypes(List.of("snake", "tetris")), 100, 64, Duration.ofMinutes(10), Duration.ofMinutes(10));
+
+    private RedisRankingFanout nodeA;
+
+    private RedisRankingFanout nodeB;
+
+    private final List<String> publishedPayloads = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new RedisRankingFanout(brokerA, redisA, objectMapper, cacheA, CHANNEL, "node-a", 16);
+        nodeB = new RedisRankingFanout(brokerB, redisB, objectMapper, cacheB, CHANNEL, "node-b", 16);
+
+        // 채널 구독자 모두(발행한 노드 포함)에게 전달
+        for (StringRedisTemplate redis : List.of(redisA, redisB)) {
+            lenient().when(redis.convertAndSend(eq(CHANNEL), anyString())).thenAnswer(invocation -> {
+                String payload = invocation.getArgument(1);
+                publishedPayloads.add(payload);
+                deliver(payload);
+                return 2L;
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("한 노드의 프레임이 두 노드의 로컬 브로커에 한 번씩 전달됨")
+    void publish_ReachesEveryNodeOnce() throws Exception {
+        // when
+        nodeA.publish(List.of(frame("snake", 1)));
+
+        // then
+        verify(brokerA, times(1)).send(eq("/topic/rankings/snake"), any(Message.class));
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(brokerB, times(1)).send(eq("/topic/rankings/snake"), captor.capture());
+        RankingUpdate received = objectMapper.readValue((byte[]) captor.getValue().getPayload(), RankingUpdate.class);
+        assertThat(received.getOrigin()).isEqualTo(nodeA.getOrigin()).startsWith("node-a@");
+        assertThat(received.getEntries()).extracting(RankingEntry::getNickname).containsExactly("alice");
+    }
+
+    @Test
+    @DisplayName("한 window의 프레임은 Redis 메시지 하나로 발행")
+    void publish_BatchesFramesPerWindow() {
+        // when
+        nodeA.publish(List.of(frame("snake", 1), frame("tetris", 1)));
+
+        // then
+        assertThat(publishedPayloads).hasSize(1);
+        verify(brokerB, times(1)).send(eq("/topic/rankings/snake"), any(Message.class));
+        verify(brokerB, times(1)).send(eq("/topic/rankings/tetris"), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("같은 프레임이 다시 도착해도 한 번만 전달")
+    void onMessage_DropsDuplicateFrames() {
+        // given
+        nodeA.publish(List.of(frame("snake", 1)));
+
+        // when - 같은 메시지 재전달
+        deliver(publishedPayloads.get(0));
+
+        // then
+        verify(brokerA, times(1)).send(eq("/topic/rankings/snake"), any(Message.class));
+        verify(brokerB, times(1)).send(eq("/topic/rankings/snake"), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("같은 node-id로 재시작한 노드의 프레임은 순번이 겹쳐도 전달")
+    void onMessage_DeliversFramesFromRestartedNode() {
+        // given
+        nodeA.publish(List.of(frame("snake", 1)));
+
+        // when - 같은 node-id로 재시작해 순번이 1부터 다시 시작
+        nodeA = new RedisRankingFanout(brokerA, redisA, objectMapper, cacheA, CHANNEL, "node-a", 16);
+        nodeA.publish(List.of(frame("snake", 1)));
+
+        // then
+        verify(brokerB, times(2)).send(eq("/topic/rankings/snake"), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 프레임을 받으면 받은 노드의 랭킹 캐시 버전만 한 번 올림")
+    void onMessage_BumpsCacheVersionForRelayedFrames() {
+        // given
+        long versionA = cacheA.currentVersion("snake");
+        long versionB = cacheB.currentVersion("snake");
+
+        // when - 같은 메시지 재전달 포함
+        nodeA.publish(List.of(frame("snake", 1)));
+        deliver(publishedPayloads.get(0));
+
+        // then
+        assertThat(cacheA.currentVersion("snake")).isEqualTo(versionA);
+        assertThat(cacheB.currentVersion("snake")).isNotEqualTo(versionB);
+        long bumped = cacheB.currentVersion("snake");
+        deliver(publishedPayloads.get(0));
+        assertThat(cacheB.currentVersion("snake")).isEqualTo(bumped);
+    }
+
+    private void deliver(String payload) {
+        DefaultMessage message = new DefaultMessage(
+                CHANNEL.getBytes(StandardCharsets.UTF_8), payload.getBytes(StandardCharsets.UTF_8));
+        nodeA.onMessage(message, null);
+        nodeB.onMessage(message, null);
+    }
+
+    private RankingUpdate frame(String gameType, long sequence) {
+        return RankingUpdate.builder()
+                .gameType(gameType)
+                .type(RankingUpdate.Type.SNAPSHOT)
+                .sequence(sequence)
+                .size(1)
+                .entries(List.of(RankingEntry.builder()
+                        .userId(1L)
+                        .nickname("alice")
+                        .score(300)
+                        .rank(1)
+                        .playedAt(LocalDateTime.now())
+                        .build()))
+                .build();
+    }
+}
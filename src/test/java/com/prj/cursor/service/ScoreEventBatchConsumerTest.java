@@ -0,0 +1,62 @@
+package com.prj.cursor.service;
+
+import com.prj.cursor.dto.ScoreEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ScoreEventBatchConsumer 단위 테스트
+ */
+class ScoreEventBatchConsumerTest {
+
+    @Test
+    @DisplayName("배치 내 이벤트를 게임별로 묶고 사용자별 최고 점수만 남김")
+    void coalesce_KeepsBestScorePerMemberPerGame() {
+        // given
+        ScoreEvent first = event("snake", 1L, "alice", 100);
+        ScoreEvent better = event("snake", 1L, "alice", 300);
+        ScoreEvent worse = event("snake", 1L, "alice", 200);
+        ScoreEvent other = event("snake", 2L, "bob", 150);
+        ScoreEvent otherGame = event("tetris", 1L, "alice", 50);
+
+        // when
+        Map<String, Map<Long, ScoreEvent>> result = ScoreEventBatchConsumer.coalesce(
+                Arrays.asList(first, better, worse, other, otherGame, null));
+
+        // then
+        assertThat(result).containsOnlyKeys("snake", "tetris");
+        assertThat(result.get("snake")).containsExactlyInAnyOrderEntriesOf(Map.of(1L, better, 2L, other));
+        assertThat(result.get("tetris")).containsExactlyInAnyOrderEntriesOf(Map.of(1L, otherGame));
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 닉네임이 바뀌어도 하나의 멤버로 묶임")
+    void coalesce_GroupsByUserIdAcrossNicknameChange() {
+        // given
+        ScoreEvent before = event("snake", 1L, "alice", 100);
+        ScoreEvent renamed = event("snake", 1L, "alice2", 200);
+        ScoreEvent missingUserId = event("snake", null, "carol", 500);
+
+        // when
+        Map<String, Map<Long, ScoreEvent>> result = ScoreEventBatchConsumer.coalesce(
+                Arrays.asList(before, renamed, missingUserId));
+
+        // then
+        assertThat(result.get("snake")).containsExactlyInAnyOrderEntriesOf(Map.of(1L, renamed));
+    }
+
+    private ScoreEvent event(String gameType, Long userId, String nickname, int score) {
+        return ScoreEvent.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .score(score)
+                .gameType(gameType)
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.prj.cursor.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ScoreSubmissionLimiter 단위 테스트
+ */
+class ScoreSubmissionLimiterTest {
+
+    private static final GameTypes GAME_TYPES = new GameTypes(List.of("snake", "tetris"));
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("burst만큼 허용한 뒤 거절하고, 시간이 지나면 rate만큼 다시 허용")
+    void tryAcquire_RefillsAtConfiguredRate() {
+        // given - 초당 2개, 최대 3개
+        ScoreSubmissionLimiter limiter = new ScoreSubmissionLimiter(true, 2, 3, "", 4, 16, GAME_TYPES, now::get);
+
+        // when & then
+        assertThat(limiter.tryAcquire("snake", "user:1")).isTrue();
+        assertThat(limiter.tryAcquire("snake", "user:1")).isTrue();
+        assertThat(limiter.tryAcquire("snake", "user:1")).isTrue();
+        assertThat(limiter.tryAcquire("snake", "user:1")).isFalse();
+
+        // 다른 사용자는 영향 없음
+        assertThat(limiter.tryAcquire("snake", "user:2")).isTrue();
+
+        now.addAndGet(500_000_000L);
+        assertThat(limiter.tryAcquire("snake", "user:1")).isTrue();
+        assertThat(limiter.tryAcquire("snake", "user:1")).isFalse();
+
+        assertThat(limiter.getAllowedCount()).isEqualTo(5);
+        assertThat(limiter.getRejectedCounts()).containsEntry("snake", 2L);
+    }
+
+    @Test
+    @DisplayName("게임별 덮어쓰기 설정을 적용")
+    void tryAcquire_UsesPerGameTypeRate() {
+        // given
+        ScoreSubmissionLimiter limiter = new ScoreSubmissionLimiter(true, 5, 10, "tetris:1/1", 4, 16, GAME_TYPES, now::get);
+
+        // when & then
+        assertThat(limiter.tryAcquire("tetris", "user:1")).isTrue();
+        assertThat(limiter.tryAcquire("tetris", "user:1")).isFalse();
+        assertThat(limiter.tryAcquire("snake", "user:1")).isTrue();
+        assertThat(limiter.tryAcquire("snake", "user:1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("버킷 한도를 넘으면 가득 찬 버킷을 정리해 메모리를 제한")
+    void tryAcquire_EvictsFullBucketsWhenStripeIsFull() {
+        // given - stripe 1개, 버킷 최대 2개
+        ScoreSubmissionLimiter limiter = new ScoreSubmissionLimiter(true, 1, 1, "", 1, 2, GAME_TYPES, now::get);
+        limiter.tryAcquire("snake", "user:1");
+        limiter.tryAcquire("snake", "user:2");
+
+        // when - 시간이 지나 두 버킷 모두 가득 찬 뒤 새 사용자 제출
+        now.addAndGet(2_000_000_000L);
+        boolean granted = limiter.tryAcquire("snake", "user:3");
+
+        // then - 정리된 사용자는 새 버킷으로 다시 시작
+        assertThat(granted).isTrue();
+        assertThat(limiter.tryAcquire("snake", "user:1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("버킷 한도에서 가득 찬 버킷이 없으면 가장 오래 쓰이지 않은 버킷 하나만 정리")
+    void tryAcquire_EvictsLeastRecentlyUsedBucketWhenNoneIsFull() {
+        // given - stripe 1개, 버킷 최대 2개, 시간이 흐르지 않아 어떤 버킷도 가득 차지 않음
+        ScoreSubmissionLimiter limiter = new ScoreSubmissionLimiter(true, 1, 1, "", 1, 2, GAME_TYPES, now::get);
+        limiter.tryAcquire("snake", "user:1");
+        limiter.tryAcquire("snake", "user:2");
+        limiter.tryAcquire("snake", "user:1");
+
+        // when - user:2가 가장 오래 쓰이지 않음
+        boolean granted = limiter.tryAcquire("snake", "user:3");
+
+        // then - user:1의 제한은 유지
+        assertThat(granted).isTrue();
+        assertThat(limiter.tryAcquire("snake", "user:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 게임 타입은 하나의 버킷과 통계 키(other)로 묶음")
+    void tryAcquire_GroupsUnknownGameTypes() {
+        // given
+        ScoreSubmissionLimiter limiter = new ScoreSubmissionLimiter(true, 1, 1, "", 4, 16, GAME_TYPES, now::get);
+
+        // when
+        boolean first = limiter.tryAcquire("random-1", "user:1");
+        boolean second = limiter.tryAcquire("random-2", "user:1");
+        limiter.tryAcquire(null, "user:1");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(limiter.getRejectedCounts()).containsOnlyKeys("other").containsEntry("other", 2L);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 항상 허용")
+    void tryAcquire_AllowsEverythingWhenDisabled() {
+        // given
+        ScoreSubmissionLimiter limiter = new ScoreSubmissionLimiter(false, 1, 1, "", 4, 16, GAME_TYPES, now::get);
+
+        // when & then
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("snake", "user:1")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 덮어쓰기 설정은 기동 시 거부")
+    void parseOverrides_RejectsMalformedEntries() {
+        assertThatThrownBy(() -> ScoreSubmissionLimiter.parseOverrides("snake=10"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ScoreSubmissionLimiter.parseOverrides("snake:10/20, tetris:0.5/2")).containsKeys("snake", "tetris");
+    }
+}